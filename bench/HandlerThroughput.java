@@ -0,0 +1,95 @@
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+// /study/{id} 와 /study/search 처리량 측정용 부하 발생기 (JDK 만 사용)
+//
+//   java bench/HandlerThroughput.java <baseUrl> <userId> <password> <groupId> <word> [clients] [seconds]
+//
+// 서버를 studymate.virtual-threads=false(기본) / true 로 각각 띄운 뒤 같은 인자로 실행해 결과를 비교한다
+// 예) -Dstudymate.virtual-threads=true -Dstudymate.db.pool-size=20 로 톰캣 실행
+public class HandlerThroughput {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args[0];
+        String userId = args[1];
+        String password = args[2];
+        String groupId = args[3];
+        String word = args[4];
+        int clients = args.length > 5 ? Integer.parseInt(args[5]) : 200;
+        int seconds = args.length > 6 ? Integer.parseInt(args[6]) : 30;
+
+        HttpClient client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        // 로그인 (세션 쿠키는 모든 부하 스레드가 공유)
+        String form = "id=" + encode(userId) + "&password=" + encode(password);
+        client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login/verify"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form)).build(), HttpResponse.BodyHandlers.discarding());
+
+        run(client, "view   /study/" + groupId, URI.create(baseUrl + "/study/" + groupId), clients, seconds);
+        run(client, "search /study/search?word=" + word, URI.create(baseUrl + "/study/search?word=" + encode(word)), clients, seconds);
+    }
+
+    private static void run(HttpClient client, String name, URI uri, int clients, int seconds) throws Exception {
+        AtomicLong ok = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                executor.submit(() -> {
+                    HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+                    while (System.nanoTime() < deadline) {
+                        long started = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200) {
+                                ok.incrementAndGet();
+                                latencies.add(System.nanoTime() - started);
+                            } else {
+                                failed.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            failed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        System.out.printf("%-40s clients=%d  %.1f req/s  p50=%.1fms  p99=%.1fms  failed=%d%n",
+                name, clients, ok.get() / (double) seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), failed.get());
+    }
+
+    private static double percentile(List<Long> sorted, double p) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        return sorted.get((int) Math.min(sorted.size() - 1, Math.round(p * sorted.size()))) / 1_000_000.0;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,74 @@
+package org.codenova.studymate.benchmark;
+
+import org.codenova.studymate.component.AvatarCatalog;
+import org.codenova.studymate.component.ContentVersions;
+import org.codenova.studymate.component.PostActivityBuffer;
+import org.codenova.studymate.component.PostFeedAssembler;
+import org.codenova.studymate.model.query.PostWithDetail;
+import org.codenova.studymate.model.vo.PostPage;
+import org.codenova.studymate.repository.AvatarRepository;
+import org.codenova.studymate.repository.PostRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// StudyController.viewHandle 의 게시글 피드 조립 (PrettyTime 변환 포함)
+// - assemble : 이미 조회된 한 페이지를 PostMeta 로 변환하는 비용만
+// - firstPage / deepPage : 조회 + 변환, 인기 그룹의 첫 페이지와 4,000 번째 글 근처 페이지의 비용이 같아야 한다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FeedBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private PostRepository postRepository;
+    private PostFeedAssembler assembler;
+    private List<PostWithDetail> fetched;
+    private String deepCursor;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase database) {
+        postRepository = new PostRepository(database.template,
+                new PostActivityBuffer(database.sqlSessionFactory, new DataSourceTransactionManager(database.dataSource),
+                        new ContentVersions()));
+        AvatarCatalog avatarCatalog = new AvatarCatalog(new AvatarRepository(database.template));
+        avatarCatalog.reload();
+        assembler = new PostFeedAssembler(avatarCatalog);
+
+        fetched = postRepository.findPageWithDetailByGroupId(
+                assembler.pageParams(BenchmarkDatabase.HOT_GROUP_ID, null, PAGE_SIZE));
+
+        // 4,000 번째 글 직전까지 커서를 옮겨 둔다
+        String cursor = null;
+        for (int i = 0; i < 4_000 / PAGE_SIZE; i++) {
+            cursor = page(cursor).getNextCursor();
+        }
+        deepCursor = cursor;
+    }
+
+    @Benchmark
+    public PostPage assemble() {
+        return assembler.assemble(fetched, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public PostPage firstPage() {
+        return page(null);
+    }
+
+    @Benchmark
+    public PostPage deepPage() {
+        return page(deepCursor);
+    }
+
+    private PostPage page(String before) {
+        return assembler.assemble(postRepository.findPageWithDetailByGroupId(
+                assembler.pageParams(BenchmarkDatabase.HOT_GROUP_ID, before, PAGE_SIZE)), PAGE_SIZE);
+    }
+}
@@ -0,0 +1,74 @@
+package org.codenova.studymate.benchmark;
+
+import org.codenova.studymate.component.Leaderboards;
+import org.codenova.studymate.component.MembershipIndex;
+import org.codenova.studymate.model.entity.LoginLog;
+import org.codenova.studymate.model.entity.StudyMember;
+import org.codenova.studymate.model.query.FeelingStats;
+import org.codenova.studymate.model.query.StudyMemberWithGroupDetail;
+import org.codenova.studymate.repository.PostReactionRepository;
+import org.codenova.studymate.repository.StudyMemberRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 요청마다 실행되는 저장소 조회 (캐시를 거치지 않는 DB 조회 비용)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositoryBenchmark {
+
+    private BenchmarkDatabase database;
+    private PostReactionRepository postReactionRepository;
+    private StudyMemberRepository studyMemberRepository;
+    private int maxPostId;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase database) throws SQLException {
+        this.database = database;
+        postReactionRepository = new PostReactionRepository(database.template);
+        studyMemberRepository = new StudyMemberRepository(database.template, database.sqlSessionFactory, new MembershipIndex(),
+                new Leaderboards(database.template, 1000));
+        try (Connection connection = database.dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("select max(id) from posts")) {
+            rs.next();
+            maxPostId = rs.getInt(1);
+        }
+    }
+
+    private static String randomUser() {
+        return BenchmarkDatabase.userId(ThreadLocalRandom.current().nextInt(BenchmarkDatabase.USER_COUNT));
+    }
+
+    @Benchmark
+    public List<FeelingStats> countFeelingByPostId() {
+        return postReactionRepository.countFeelingByPostId(1 + ThreadLocalRandom.current().nextInt(maxPostId));
+    }
+
+    @Benchmark
+    public List<StudyMemberWithGroupDetail> findWithGroupDetailByUserId() {
+        return studyMemberRepository.findWithGroupDetailByUserId(randomUser());
+    }
+
+    @Benchmark
+    public StudyMember findByUserIdAndGroupId() {
+        return studyMemberRepository.findByUserIdAndGroupId(
+                Map.of("userId", randomUser(), "groupId", BenchmarkDatabase.HOT_GROUP_ID));
+    }
+
+    @Benchmark
+    public LoginLog findLatestLoginByUserId() {
+        return database.template.selectOne("loginLog.findLatestByUserId", randomUser());
+    }
+}
@@ -0,0 +1,60 @@
+package org.codenova.studymate.benchmark;
+
+import org.codenova.studymate.component.MemberCountBuffer;
+import org.codenova.studymate.component.StudyGroupCache;
+import org.codenova.studymate.component.StudyGroupSearchIndex;
+import org.codenova.studymate.component.StudyGroupSearchPager;
+import org.codenova.studymate.model.entity.StudyGroup;
+import org.codenova.studymate.model.vo.StudyGroupWithCreator;
+import org.codenova.studymate.repository.StudyGroupRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// StudyController.searchHandle 의 검색과 결과 변환
+// - indexSearch : 메모리 바이그램 색인 검색 (관련도 정렬 포함)
+// - searchPage : 색인 검색 + StudyGroupSearchPager 로 첫 페이지의 그룹 / 생성자 조인 조회 + 순서 복원
+// - likeScan : 비교용, 이전 방식의 like '%word%' 전체 스캔
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+
+    @Param({"자바", "스터디", "정보처리"})
+    public String word;
+
+    private StudyGroupSearchIndex searchIndex;
+    private StudyGroupRepository studyGroupRepository;
+    private StudyGroupSearchPager searchPager;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase database) {
+        searchIndex = new StudyGroupSearchIndex();
+        StudyGroupCache cache = new StudyGroupCache();
+        studyGroupRepository = new StudyGroupRepository(database.template, searchIndex, cache,
+                new MemberCountBuffer(database.sqlSessionFactory, new DataSourceTransactionManager(database.dataSource), cache));
+        studyGroupRepository.loadSearchIndex();
+        searchPager = new StudyGroupSearchPager(studyGroupRepository);
+    }
+
+    @Benchmark
+    public List<String> indexSearch() {
+        return searchIndex.search(word);
+    }
+
+    @Benchmark
+    public List<StudyGroupWithCreator> searchPage() {
+        List<String> ids = studyGroupRepository.searchIds(word);
+        return searchPager.findPage(searchPager.pageIds(ids, 1));
+    }
+
+    @Benchmark
+    public List<StudyGroup> likeScan() {
+        return studyGroupRepository.findByNameLikeOrGoalLike("%" + word + "%");
+    }
+}
@@ -0,0 +1,58 @@
+package org.codenova.studymate.component;
+
+import org.codenova.studymate.model.entity.Avatar;
+import org.codenova.studymate.repository.AvatarRepository;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 아바타 목록은 거의 바뀌지 않으므로 시작 시 한 번만 읽어 메모리에 둔다
+// 조회는 id 를 배열 인덱스로 사용하므로 커넥션 풀을 전혀 사용하지 않는다
+@Component
+public class AvatarCatalog {
+
+    private final AvatarRepository avatarRepository;
+
+    private volatile Snapshot snapshot = new Snapshot(List.of(), new Avatar[0]);
+
+    public AvatarCatalog(AvatarRepository avatarRepository) {
+        this.avatarRepository = avatarRepository;
+    }
+
+    // 애플리케이션 시작 시, 또는 avatars 테이블을 수정한 뒤 직접 호출해 다시 적재
+    @EventListener(ContextRefreshedEvent.class)
+    public void reload() {
+        List<Avatar> avatars = avatarRepository.findAll();
+
+        int max = 0;
+        for (Avatar one : avatars) {
+            max = Math.max(max, one.getId());
+        }
+        Avatar[] byId = new Avatar[max + 1];
+        for (Avatar one : avatars) {
+            byId[one.getId()] = one;
+        }
+
+        snapshot = new Snapshot(List.copyOf(avatars), byId);
+    }
+
+    public List<Avatar> findAll() {
+        return snapshot.all();
+    }
+
+    public Avatar findById(int id) {
+        Avatar[] byId = snapshot.byId();
+        return id >= 0 && id < byId.length ? byId[id] : null;
+    }
+
+    // 아바타 이미지 경로, 없는 아바타면 null
+    public String findImageUrlById(int id) {
+        Avatar found = findById(id);
+        return found == null ? null : found.getImageUrl();
+    }
+
+    private record Snapshot(List<Avatar> all, Avatar[] byId) {
+    }
+}
@@ -0,0 +1,101 @@
+package org.codenova.studymate.component;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 화면 내용이 바뀔 때마다 올리는 버전 (화면 조각 캐시 키, ETag / Last-Modified 계산에 사용)
+// - 그룹 버전 : 글 / 감정 / 가입 / 승인
+// - 대시보드 버전 : 사용자의 가입 / 탈퇴 / 신청 철회 / 승인 / 안 읽은 글 확인, 가입한 그룹의 새 글 반영(PostActivityBuffer),
+//   그룹 해산은 모든 대시보드 버전을 올린다
+// 버전은 전역 순번에서 받으므로 항상 증가하고, 서로 다른 변경이 같은 버전을 갖지 않는다
+// 버전은 이 인스턴스의 메모리에만 있으므로, ETag 에는 기동 시각을 함께 넣어 재시작 전의 ETag 와 겹치지 않게 한다
+@Component
+public class ContentVersions {
+
+    private final long startedAt = System.currentTimeMillis();
+    private final Map<String, Stamp> groups = new ConcurrentHashMap<>();
+    private final Map<String, Stamp> dashboards = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile Stamp dissolved = new Stamp(0, startedAt);
+
+    // 한 번도 바뀌지 않은 대상은 (0, 기동 시각) : 기동 전의 변경 시각은 알 수 없으므로 기동 시각에 바뀐 것으로 본다
+    public Stamp group(String groupId) {
+        return groups.getOrDefault(groupId, new Stamp(0, startedAt));
+    }
+
+    public Stamp dashboard(String userId) {
+        Stamp own = dashboards.getOrDefault(userId, new Stamp(0, startedAt));
+        Stamp all = dissolved;
+        return own.version() > all.version() ? own : all;
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋된 뒤에 올린다 (커밋 전에 다른 요청이 이전 내용을 새 버전으로 보관하지 않도록)
+    public void bumpGroup(String groupId) {
+        afterCommit(() -> groups.put(groupId, next()));
+    }
+
+    public void bumpDashboard(String userId) {
+        afterCommit(() -> dashboards.put(userId, next()));
+    }
+
+    public void bumpAllDashboards() {
+        afterCommit(() -> dissolved = next());
+    }
+
+    // 강한 ETag : 응답 내용을 결정하는 값들과 기동 시각의 해시
+    public String etag(Object... parts) {
+        StringBuilder source = new StringBuilder().append(startedAt);
+        for (Object one : parts) {
+            source.append('|').append(one);
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 사용자마다 다른 화면이므로 공유 캐시에는 저장하지 않고(private), 브라우저는 매번 재검증한다(no-cache)
+    // 바뀐 것이 없으면 304 를 보내고 true 를 반환한다 (핸들러는 null 을 반환하고 끝낸다)
+    public boolean checkNotModified(ServletWebRequest webRequest, String etag, long lastModifiedMillis) {
+        HttpServletResponse response = webRequest.getResponse();
+        if (response != null) {
+            response.setHeader("Cache-Control", "private, no-cache");
+        }
+        return lastModifiedMillis > 0
+                ? webRequest.checkNotModified(etag, lastModifiedMillis)
+                : webRequest.checkNotModified(etag);
+    }
+
+    private Stamp next() {
+        return new Stamp(sequence.incrementAndGet(), System.currentTimeMillis());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    public record Stamp(long version, long changedAt) {
+    }
+}
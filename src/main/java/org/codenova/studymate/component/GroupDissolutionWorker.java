@@ -0,0 +1,115 @@
+package org.codenova.studymate.component;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.codenova.studymate.model.entity.GroupDissolution;
+import org.codenova.studymate.repository.GroupDissolutionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+// 해산된 그룹의 게시글 / 감정 / 멤버를 백그라운드에서 조금씩 지우는 작업자
+// - 한 번에 chunkSize 행씩, 조각 사이에는 pauseMillis 만큼 쉬어서 다른 쓰기가 잠금을 기다리지 않게 한다
+// - 한 주기에 chunksPerTick 조각까지만 처리하고 스케줄러 스레드를 돌려준다 (다른 @Scheduled 작업과 공유)
+// - 진행 상황은 group_dissolutions 에 조각마다 기록되므로, 재시작하면 남은 작업부터 이어서 처리한다
+@Component
+public class GroupDissolutionWorker {
+
+    private static final Log log = LogFactory.getLog(GroupDissolutionWorker.class);
+
+    private final GroupDissolutionRepository groupDissolutionRepository;
+    private final int chunkSize;
+    private final int chunksPerTick;
+    private final long pauseMillis;
+
+    private final LongAdder deletedPosts = new LongAdder();
+    private final LongAdder deletedMembers = new LongAdder();
+    private volatile int pendingJobs;
+
+    public GroupDissolutionWorker(GroupDissolutionRepository groupDissolutionRepository,
+                                  @Value("${studymate.dissolution.chunk-size:500}") int chunkSize,
+                                  @Value("${studymate.dissolution.chunks-per-tick:10}") int chunksPerTick,
+                                  @Value("${studymate.dissolution.pause-millis:50}") long pauseMillis) {
+        this.groupDissolutionRepository = groupDissolutionRepository;
+        this.chunkSize = chunkSize;
+        this.chunksPerTick = chunksPerTick;
+        this.pauseMillis = pauseMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${studymate.dissolution.interval-millis:1000}")
+    public void run() {
+        try {
+            pendingJobs = groupDissolutionRepository.countUnfinished();
+            if (pendingJobs == 0) {
+                return;
+            }
+            // 먼저 요청된 작업부터 하나씩 끝낸다
+            List<GroupDissolution> jobs = groupDissolutionRepository.findUnfinished(1);
+            if (!jobs.isEmpty()) {
+                process(jobs.get(0));
+            }
+        } catch (RuntimeException e) {
+            // 실패한 조각은 롤백되었으므로 다음 주기에 같은 단계부터 다시 시도
+            log.error("failed to process group dissolution", e);
+        }
+    }
+
+    private void process(GroupDissolution job) {
+        String groupId = job.getGroupId();
+        String stage = job.getStage();
+
+        for (int i = 0; i < chunksPerTick; i++) {
+            if (i > 0 && !pause()) {
+                return;
+            }
+            if ("POSTS".equals(stage)) {
+                int posts = groupDissolutionRepository.deletePostChunk(groupId, chunkSize);
+                deletedPosts.add(posts);
+                if (posts == 0) {
+                    stage = "MEMBERS";
+                }
+            } else {
+                int members = groupDissolutionRepository.deleteMemberChunk(groupId, chunkSize);
+                if (members < 0) {   // 해산 중에 쓰인 게시글이 남아 있음
+                    stage = "POSTS";
+                    continue;
+                }
+                deletedMembers.add(members);
+                if (members == 0) {
+                    log.info("finished dissolving group " + groupId + " (requested at " + job.getRequestedAt() + ")");
+                    pendingJobs = Math.max(0, pendingJobs - 1);
+                    return;
+                }
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("dissolving group " + groupId + " : stage " + stage);
+        }
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 남은 해산 작업 수 (마지막 주기 기준)
+    public int pendingJobs() {
+        return pendingJobs;
+    }
+
+    public long deletedPosts() {
+        return deletedPosts.sum();
+    }
+
+    public long deletedMembers() {
+        return deletedMembers.sum();
+    }
+}
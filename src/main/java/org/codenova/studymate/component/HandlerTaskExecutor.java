@@ -0,0 +1,66 @@
+package org.codenova.studymate.component;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+// Callable 을 반환하는 핸들러(Spring MVC 비동기 처리)를 실행하는 스레드
+// - studymate.virtual-threads=true : 요청마다 가상 스레드에서 실행, JDBC 대기 중에는 캐리어 스레드를 놓아준다
+//   동시 실행 수는 Hikari 커넥션 풀(maximumPoolSize / connectionTimeout)이 제한한다
+// - 기본값(false) : 비동기 처리 없이 요청을 받은 컨테이너 스레드에서 바로 실행 (startAsync / 재디스패치 없음, 이전과 같은 동기 경로)
+// 핸들러는 handle(...) 의 결과를 반환형 Object 로 돌려준다 (Spring MVC 는 실제 반환값의 타입으로 처리 방식을 고른다)
+@Component("handlerTaskExecutor")
+public class HandlerTaskExecutor implements AsyncTaskExecutor, DisposableBean {
+
+    private final AsyncTaskExecutor delegate;
+    private final boolean virtualThreads;
+
+    public HandlerTaskExecutor(@Value("${studymate.virtual-threads:false}") boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("handler-vt-");
+            executor.setVirtualThreads(true);
+            this.delegate = executor;
+        } else {
+            this.delegate = new TaskExecutorAdapter(new SyncTaskExecutor());
+        }
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    // 가상 스레드를 쓰면 Callable 그대로 (Spring MVC 가 이 실행기에서 비동기로 실행), 아니면 바로 실행한 결과(뷰 이름)
+    public Object handle(Callable<String> body) throws Exception {
+        return virtualThreads ? body : body.call();
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        delegate.execute(task);
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        return delegate.submit(task);
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        return delegate.submit(task);
+    }
+
+    @Override
+    public void destroy() {
+        if (delegate instanceof SimpleAsyncTaskExecutor simple) {
+            simple.close();
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package org.codenova.studymate.component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 점수 순위표 : 부분 트리 크기를 가진 트립(treap, 순서 통계 트리)
+// - 정렬 기준은 점수 내림차순, 같은 점수는 사용자 ID 오름차순 (순위가 항상 하나로 정해진다)
+// - 점수 갱신 / 순위 조회는 O(log n), 상위 N 명은 O(log n + N)
+// - 읽기는 동시에, 쓰기는 하나씩 (ReadWriteLock)
+public class Leaderboard {
+
+    private final Map<String, Long> scores = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Node root;
+
+    public void put(String id, long score) {
+        lock.writeLock().lock();
+        try {
+            Long old = scores.put(id, score);
+            if (old != null) {
+                if (old == score) {
+                    return;
+                }
+                root = delete(root, old, id);
+            }
+            root = insert(root, new Node(id, score));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long add(String id, long delta) {
+        lock.writeLock().lock();
+        try {
+            long score = scores.getOrDefault(id, 0L) + delta;
+            put(id, score);   // 재진입 가능한 잠금
+            return score;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            Long old = scores.remove(id);
+            if (old != null) {
+                root = delete(root, old, id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long score(String id) {
+        lock.readLock().lock();
+        try {
+            return scores.getOrDefault(id, 0L);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 1 부터 시작하는 순위, 순위표에 없으면 null
+    public Entry rank(String id) {
+        lock.readLock().lock();
+        try {
+            Long score = scores.get(id);
+            if (score == null) {
+                return null;
+            }
+            int before = 0;
+            Node node = root;
+            while (node != null) {
+                int c = compare(score, id, node);
+                if (c == 0) {
+                    return new Entry(before + size(node.left) + 1, id, score);
+                }
+                if (c < 0) {
+                    node = node.left;
+                } else {
+                    before += size(node.left) + 1;
+                    node = node.right;
+                }
+            }
+            throw new IllegalStateException("leaderboard is inconsistent for " + id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Entry> top(int n) {
+        lock.readLock().lock();
+        try {
+            List<Entry> result = new ArrayList<>(Math.min(n, scores.size()));
+            Deque<Node> stack = new ArrayDeque<>();
+            Node node = root;
+            while ((node != null || !stack.isEmpty()) && result.size() < n) {
+                while (node != null) {
+                    stack.push(node);
+                    node = node.left;
+                }
+                node = stack.pop();
+                result.add(new Entry(result.size() + 1, node.id, node.score));
+                node = node.right;
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return scores.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 음수면 (score, id) 가 node 보다 앞 순위
+    private static int compare(long score, String id, Node node) {
+        if (score != node.score) {
+            return score > node.score ? -1 : 1;
+        }
+        return id.compareTo(node.id);
+    }
+
+    private static Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (added.priority > node.priority) {
+            Node[] parts = split(node, added.score, added.id);
+            added.left = parts[0];
+            added.right = parts[1];
+            return update(added);
+        }
+        if (compare(added.score, added.id, node) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return update(node);
+    }
+
+    private static Node delete(Node node, long score, String id) {
+        if (node == null) {
+            return null;
+        }
+        int c = compare(score, id, node);
+        if (c == 0) {
+            return merge(node.left, node.right);
+        }
+        if (c < 0) {
+            node.left = delete(node.left, score, id);
+        } else {
+            node.right = delete(node.right, score, id);
+        }
+        return update(node);
+    }
+
+    // (score, id) 보다 앞 순위인 노드들과 나머지로 나눈다
+    private static Node[] split(Node node, long score, String id) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(score, id, node) > 0) {
+            Node[] parts = split(node.right, score, id);
+            node.right = parts[0];
+            return new Node[]{update(node), parts[1]};
+        }
+        Node[] parts = split(node.left, score, id);
+        node.left = parts[1];
+        return new Node[]{parts[0], update(node)};
+    }
+
+    // left 의 모든 노드가 right 의 모든 노드보다 앞 순위
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return update(left);
+        }
+        right.left = merge(left, right.left);
+        return update(right);
+    }
+
+    private static Node update(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+        return node;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    public record Entry(int rank, String userId, long score) {
+    }
+
+    private static class Node {
+        final String id;
+        final long score;
+        final int priority = ThreadLocalRandom.current().nextInt();
+        int size = 1;
+        Node left;
+        Node right;
+
+        Node(String id, long score) {
+            this.id = id;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package org.codenova.studymate.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.codenova.studymate.model.entity.User;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 공부 시간 / 로그인 횟수 순위 (전체, 그룹별)
+// - 전체 순위표는 기동 시 users 에서 채우고, 이후에는 이 인스턴스가 DB 에 반영한 증감(StudyTimeAccumulator / LoginWriteBehind)을 더한다
+//   새로 가입한 사용자는 0 점으로 바로 넣는다 (다음 reload 까지 내 순위가 비지 않도록)
+// - 그룹 순위표는 요청된 그룹만 만든다 (멤버 ID 조회 1회, 점수는 전체 순위표에서 복사)
+//   멤버의 점수가 바뀌면 그 멤버가 속한 그룹 순위표에도 같은 점수를 넣고, 가입 / 탈퇴가 있으면 버렸다가 다시 만든다
+// 순위표는 이 인스턴스의 메모리에만 있다
+// - 다른 인스턴스가 반영한 증감과 가입 / 탈퇴는 여기로 알려지지 않으므로, reloadMillis 마다 users 의 값으로 전체 순위표를 덮어쓰고
+//   그룹 순위표를 모두 버린다 (여러 대일 때 순위는 최대 reloadMillis 만큼 늦게 맞춰진다)
+@Component
+public class Leaderboards implements InitializingBean {
+
+    public enum Metric {STUDY_TIME, LOGIN_COUNT}
+
+    private static final Log log = LogFactory.getLog(Leaderboards.class);
+    private static final int SEED_PAGE_SIZE = 1000;
+
+    private final SqlSessionTemplate sqlSessionTemplate;
+    private final Map<Metric, Leaderboard> global = new EnumMap<>(Metric.class);
+    private final Cache<String, GroupBoards> groups;
+    private final Map<String, Set<String>> groupsByUser = new ConcurrentHashMap<>();   // 만들어진 그룹 순위표 기준
+
+    public Leaderboards(SqlSessionTemplate sqlSessionTemplate,
+                        @Value("${studymate.leaderboard.group-boards:1000}") long maximumGroupBoards) {
+        this.sqlSessionTemplate = sqlSessionTemplate;
+        for (Metric one : Metric.values()) {
+            global.put(one, new Leaderboard());
+        }
+        this.groups = Caffeine.newBuilder()
+                .maximumSize(maximumGroupBoards)
+                .expireAfterAccess(Duration.ofMinutes(30))
+                .executor(Runnable::run)   // 제거와 groupsByUser 정리가 같은 스레드에서 끝나도록
+                .<String, GroupBoards>removalListener((groupId, boards, cause) -> {
+                    if (boards != null) {
+                        forgetMembers(groupId, boards.memberIds());
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        load();
+    }
+
+    // users 의 값이 기준 : 읽은 뒤에 반영된 이 인스턴스의 증감이 겹치거나 빠지더라도 다음 reload 에서 맞춰진다
+    @Scheduled(initialDelayString = "${studymate.leaderboard.reload-millis:300000}",
+            fixedDelayString = "${studymate.leaderboard.reload-millis:300000}")
+    public void reload() {
+        load();
+        groups.invalidateAll();
+    }
+
+    // 모든 사용자의 점수를 기본 키 순서로 한 페이지씩 읽어 넣는다 (페이지마다 id 범위 조회 한 번)
+    private void load() {
+        long startedAt = System.currentTimeMillis();
+        String after = "";
+        List<User> page;
+        do {
+            page = sqlSessionTemplate.selectList("user.findScorePage", Map.of("after", after, "size", SEED_PAGE_SIZE));
+            for (User user : page) {
+                global.get(Metric.STUDY_TIME).put(user.getId(), user.getStudyTime());
+                global.get(Metric.LOGIN_COUNT).put(user.getId(), user.getLoginCount());
+            }
+            if (!page.isEmpty()) {
+                after = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == SEED_PAGE_SIZE);
+        log.info("loaded leaderboards of " + global.get(Metric.STUDY_TIME).size() + " users in "
+                + (System.currentTimeMillis() - startedAt) + " ms");
+    }
+
+    // 가입한 사용자를 0 점으로 넣는다 (이미 있으면 그대로, 트랜잭션 안이면 커밋 뒤에)
+    public void addUser(String userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addUserNow(userId);
+                }
+            });
+        } else {
+            addUserNow(userId);
+        }
+    }
+
+    private void addUserNow(String userId) {
+        for (Metric one : Metric.values()) {
+            global.get(one).add(userId, 0);
+        }
+    }
+
+    // DB 에 반영된 증감을 순위표에 더한다
+    public void add(Metric metric, String userId, long delta) {
+        long score = global.get(metric).add(userId, delta);
+        synchronized (this) {
+            for (String groupId : groupsByUser.getOrDefault(userId, Set.of())) {
+                GroupBoards boards = groups.getIfPresent(groupId);
+                if (boards != null) {
+                    boards.of(metric).put(userId, score);
+                }
+            }
+        }
+    }
+
+    public List<Leaderboard.Entry> top(Metric metric, int n) {
+        return global.get(metric).top(n);
+    }
+
+    public Leaderboard.Entry rank(Metric metric, String userId) {
+        return global.get(metric).rank(userId);
+    }
+
+    public List<Leaderboard.Entry> groupTop(String groupId, Metric metric, int n) {
+        return group(groupId).of(metric).top(n);
+    }
+
+    public Leaderboard.Entry groupRank(String groupId, Metric metric, String userId) {
+        return group(groupId).of(metric).rank(userId);
+    }
+
+    // 가입 / 탈퇴 / 승인 / 해산 : 그룹 순위표를 버린다 (트랜잭션 안이면 커밋 / 롤백 뒤에 한 번 더)
+    public void evictGroup(String groupId) {
+        groups.invalidate(groupId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    groups.invalidate(groupId);
+                }
+            });
+        }
+    }
+
+    private GroupBoards group(String groupId) {
+        GroupBoards boards = groups.getIfPresent(groupId);
+        if (boards != null) {
+            return boards;
+        }
+
+        List<String> memberIds = sqlSessionTemplate.selectList("studyMember.findJoinedUserIdsByGroupId", groupId);
+        // 점수 복사와 등록을 add() 와 같은 잠금 안에서 하므로, 그 사이의 점수 변경을 놓치지 않는다
+        synchronized (this) {
+            boards = groups.getIfPresent(groupId);
+            if (boards != null) {
+                return boards;
+            }
+            boards = new GroupBoards(Set.copyOf(memberIds), new EnumMap<>(Metric.class));
+            for (Metric one : Metric.values()) {
+                Leaderboard board = new Leaderboard();
+                for (String userId : memberIds) {
+                    board.put(userId, global.get(one).score(userId));
+                }
+                boards.boards().put(one, board);
+            }
+            for (String userId : memberIds) {
+                groupsByUser.computeIfAbsent(userId, k -> ConcurrentHashMap.newKeySet()).add(groupId);
+            }
+            groups.put(groupId, boards);
+            return boards;
+        }
+    }
+
+    private void forgetMembers(String groupId, Set<String> memberIds) {
+        synchronized (this) {
+            GroupBoards current = groups.getIfPresent(groupId);   // 제거 알림 전에 이미 다시 만들어진 경우
+            for (String userId : memberIds) {
+                if (current != null && current.memberIds().contains(userId)) {
+                    continue;
+                }
+                groupsByUser.computeIfPresent(userId, (k, set) -> {
+                    set.remove(groupId);
+                    return set.isEmpty() ? null : set;
+                });
+            }
+        }
+    }
+
+    public int groupBoardCount() {
+        return (int) groups.estimatedSize();
+    }
+
+    private record GroupBoards(Set<String> memberIds, Map<Metric, Leaderboard> boards) {
+        Leaderboard of(Metric metric) {
+            return boards.get(metric);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.codenova.studymate.component;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.codenova.studymate.repository.LoginLogRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+// login_logs 월 단위 파티션 관리
+// - 이번 달부터 aheadMonths 개월 뒤까지의 파티션을 미리 만든다 (pmax 를 나눔)
+// - 보관 기간(retentionMonths)이 지난 달의 파티션은 통째로 삭제한다 (행 단위 delete 없음)
+// 일일 집계(login_daily_stats)는 삭제하지 않으므로 오래된 활동 통계는 그대로 남는다
+@Component
+public class LoginLogPartitionMaintainer {
+
+    private static final Log log = LogFactory.getLog(LoginLogPartitionMaintainer.class);
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final LoginLogRepository loginLogRepository;
+    private final int retentionMonths;
+    private final int aheadMonths;
+
+    public LoginLogPartitionMaintainer(LoginLogRepository loginLogRepository,
+                                       @Value("${studymate.login-log.retention-months:12}") int retentionMonths,
+                                       @Value("${studymate.login-log.ahead-months:2}") int aheadMonths) {
+        this.loginLogRepository = loginLogRepository;
+        this.retentionMonths = retentionMonths;
+        this.aheadMonths = aheadMonths;
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    @Scheduled(cron = "0 10 3 * * *")
+    public void maintain() {
+        try {
+            List<String> existing = loginLogRepository.findPartitionNames();
+            YearMonth current = YearMonth.now();
+
+            for (int i = 0; i <= aheadMonths; i++) {
+                YearMonth month = current.plusMonths(i);
+                String name = month.format(PARTITION_NAME);
+                if (!existing.contains(name)) {
+                    LocalDate lessThan = month.plusMonths(1).atDay(1);
+                    loginLogRepository.addPartition(name, lessThan);
+                    log.info("added login_logs partition " + name);
+                }
+            }
+
+            String oldestKept = current.minusMonths(retentionMonths).format(PARTITION_NAME);
+            for (String name : existing) {
+                if (!name.equals("pmax") && name.compareTo(oldestKept) < 0) {
+                    loginLogRepository.dropPartition(name);
+                    log.info("dropped login_logs partition " + name);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("failed to maintain login_logs partitions", e);
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package org.codenova.studymate.component;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.codenova.studymate.model.entity.LoginLog;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// 로그인 기록(login_logs)과 로그인 횟수(users.login_count)를 요청 스레드 밖에서 모아서 쓴다
+// - 로그인 요청은 큐에 넣기만 하고, 백그라운드 작업자가 최대 maxLagMillis 안에 배치로 저장
+// - login_logs 는 JDBC 배치 insert, login_count 와 일일 집계는 사용자별로 합쳐 한 번만 update (세 테이블을 한 트랜잭션으로)
+// - 저장에 실패하면 maxAttempts 번까지 다시 시도하고, 그래도 실패한 기록은 deadLetterFile 에 한 줄씩 남긴다
+//   남긴 기록은 다음 기동 때 다시 저장한다
+// - 큐가 가득 차면 overflowPolicy 에 따라 요청 스레드에서 직접 쓰거나(CALLER_RUNS) 버린다(DROP)
+// - 애플리케이션 종료 시 남은 기록을 모두 저장한 뒤 멈춘다
+@Component
+public class LoginWriteBehind implements SmartLifecycle {
+
+    public enum OverflowPolicy {CALLER_RUNS, DROP}
+
+    private static final Log log = LogFactory.getLog(LoginWriteBehind.class);
+
+    private final SqlSessionTemplate batchTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Leaderboards leaderboards;
+    private final BlockingQueue<Event> queue;
+    private final long maxLagNanos;
+    private final int maxBatchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final int maxAttempts;
+    private final Path deadLetterFile;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public LoginWriteBehind(SqlSessionFactory sqlSessionFactory,
+                            PlatformTransactionManager transactionManager,
+                            Leaderboards leaderboards,
+                            @Value("${studymate.login.queue-capacity:10000}") int queueCapacity,
+                            @Value("${studymate.login.max-lag-millis:1000}") long maxLagMillis,
+                            @Value("${studymate.login.max-batch-size:500}") int maxBatchSize,
+                            @Value("${studymate.login.overflow-policy:CALLER_RUNS}") OverflowPolicy overflowPolicy,
+                            @Value("${studymate.login.max-attempts:3}") int maxAttempts,
+                            @Value("${studymate.login.dead-letter-file:${java.io.tmpdir}/studymate-login-dead-letter.log}") String deadLetterFile) {
+        this.batchTemplate = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.leaderboards = leaderboards;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxLagNanos = TimeUnit.MILLISECONDS.toNanos(maxLagMillis);
+        this.maxBatchSize = maxBatchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.maxAttempts = maxAttempts;
+        this.deadLetterFile = Path.of(deadLetterFile);
+    }
+
+    // 로그인 성공 기록
+    public void recordLogin(String userId) {
+        Event event = new Event(userId, LocalDateTime.now(), System.nanoTime());
+        if (running && queue.offer(event)) {
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.CALLER_RUNS || !running) {
+            write(List.of(event));
+        } else {
+            log.warn("login write-behind queue is full, dropped login of " + userId);
+        }
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "login-write-behind");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // 종료 시 큐에 남은 기록을 모두 저장할 때까지 기다린다
+    @Override
+    public void stop() {
+        running = false;
+        if (worker == null) {
+            return;
+        }
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drainLoop() {
+        replayDeadLetters();
+        List<Event> batch = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                Event first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 가장 오래된 기록이 maxLag 에 닿을 때까지, 또는 배치가 찰 때까지 모은다
+                long deadline = first.enqueuedAt() + maxLagNanos;
+                while (running && batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    Event next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                queue.drainTo(batch, maxBatchSize - batch.size());
+
+                write(batch);
+            } catch (InterruptedException e) {
+                // 강제로 중단되면 모아 둔 기록과 남은 큐를 한 번에 저장하고 끝낸다
+                running = false;
+                queue.drainTo(batch);
+                write(batch);
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 실패하면 트랜잭션이 통째로 롤백되므로 같은 배치를 그대로 다시 시도해도 중복 저장되지 않는다
+    private void write(List<Event> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                flush(batch);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    log.error("failed to flush " + batch.size() + " login records after " + attempt + " attempts", e);
+                    break;
+                }
+                log.warn("failed to flush " + batch.size() + " login records (attempt " + attempt + "), retrying", e);
+            }
+            try {
+                Thread.sleep(200L * attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        deadLetter(batch);
+    }
+
+    private void flush(List<Event> batch) {
+        Map<String, Integer> counts = new TreeMap<>();   // 항상 같은 순서로 갱신해 교착을 피함
+        Map<String, Map<LocalDate, Integer>> dailyCounts = new TreeMap<>();
+        for (Event one : batch) {
+            counts.merge(one.userId(), 1, Integer::sum);
+            dailyCounts.computeIfAbsent(one.userId(), k -> new TreeMap<>())
+                    .merge(one.loginAt().toLocalDate(), 1, Integer::sum);
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Event one : batch) {
+                LoginLog loginLog = new LoginLog();
+                loginLog.setUserId(one.userId());
+                loginLog.setLoginAt(one.loginAt());
+                batchTemplate.insert("loginLog.createAt", loginLog);
+            }
+            for (Map.Entry<String, Integer> one : counts.entrySet()) {
+                batchTemplate.update("user.addLoginCountByUserId", Map.of("id", one.getKey(), "amount", one.getValue()));
+            }
+            for (Map.Entry<String, Map<LocalDate, Integer>> one : dailyCounts.entrySet()) {
+                for (Map.Entry<LocalDate, Integer> day : one.getValue().entrySet()) {
+                    batchTemplate.insert("loginLog.addDailyCount",
+                            Map.of("userId", one.getKey(), "loginDate", day.getKey(), "amount", day.getValue()));
+                }
+            }
+            batchTemplate.flushStatements();
+        });
+        counts.forEach((id, amount) -> leaderboards.add(Leaderboards.Metric.LOGIN_COUNT, id, amount));
+    }
+
+    // 한 줄에 "userId\tloginAt" (파일에도 쓰지 못하면 로그에라도 남긴다)
+    private synchronized void deadLetter(List<Event> batch) {
+        List<String> lines = new ArrayList<>();
+        for (Event one : batch) {
+            lines.add(one.userId() + "\t" + one.loginAt());
+        }
+        try {
+            Files.write(deadLetterFile, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            log.warn("wrote " + batch.size() + " login records to " + deadLetterFile);
+        } catch (IOException e) {
+            log.error("failed to write dead letters, lost login records : " + lines, e);
+        }
+    }
+
+    // 지난번에 저장하지 못한 기록을 다시 저장 (또 실패하면 새 파일에 다시 남는다)
+    private void replayDeadLetters() {
+        Path replaying = deadLetterFile.resolveSibling(deadLetterFile.getFileName() + ".replaying");
+        List<String> lines;
+        try {
+            if (!Files.exists(replaying)) {
+                Files.move(deadLetterFile, replaying, StandardCopyOption.ATOMIC_MOVE);
+            }
+            lines = Files.readAllLines(replaying, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return;
+        } catch (IOException e) {
+            log.error("failed to read dead letters from " + deadLetterFile, e);
+            return;
+        }
+
+        List<Event> events = new ArrayList<>();
+        for (String line : lines) {
+            int tab = line.indexOf('\t');
+            if (tab > 0) {
+                events.add(new Event(line.substring(0, tab), LocalDateTime.parse(line.substring(tab + 1)), System.nanoTime()));
+            }
+        }
+        for (int from = 0; from < events.size(); from += maxBatchSize) {
+            write(events.subList(from, Math.min(from + maxBatchSize, events.size())));
+        }
+        try {
+            Files.delete(replaying);
+        } catch (IOException e) {
+            log.error("failed to delete replayed dead letters " + replaying, e);
+        }
+        log.info("replayed " + events.size() + " login records from " + deadLetterFile);
+    }
+
+    private record Event(String userId, LocalDateTime loginAt, long enqueuedAt) {
+    }
+}
@@ -0,0 +1,180 @@
+package org.codenova.studymate.component;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.codenova.studymate.model.query.MemberCountDrift;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// 스터디 그룹 멤버 수 증감 버퍼
+// 인기 그룹에 가입이 몰리면 member_count = member_count + 1 이 한 행의 잠금에서 줄을 서게 되므로,
+// 증감은 그룹별 LongAdder 에 모았다가 주기적으로 그룹당 한 번의 update 로 반영한다
+// 반영 전의 증감은 pending() 으로 조회할 수 있고, 주기적인 보정(reconcile)으로 study_members 와의 차이를 없앤다
+// 반영과 보정은 하나의 트랜잭션으로 실행한다 (BATCH 세션이라도 일부만 반영된 채 실패하지 않도록)
+@Component
+public class MemberCountBuffer implements SmartLifecycle {
+
+    private static final Log log = LogFactory.getLog(MemberCountBuffer.class);
+
+    private final SqlSessionTemplate batchTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StudyGroupCache studyGroupCache;
+    private final Map<String, LongAdder> deltas = new ConcurrentHashMap<>();
+    private volatile Map<String, Long> inFlight = Map.of();   // DB 에 쓰는 중인 증감
+
+    // 보정과 겹친 가입 / 탈퇴를 가려내기 위한 기록
+    private final Map<String, AtomicInteger> uncommitted = new ConcurrentHashMap<>();   // 커밋 전인 증감이 있는 그룹
+    private final Set<String> touchedWhileReconciling = ConcurrentHashMap.newKeySet();
+    private volatile boolean reconciling;
+
+    private volatile boolean running;
+
+    public MemberCountBuffer(SqlSessionFactory sqlSessionFactory, PlatformTransactionManager transactionManager,
+                             StudyGroupCache studyGroupCache) {
+        this.batchTemplate = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.studyGroupCache = studyGroupCache;
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋된 뒤에만 반영한다 (롤백된 가입 / 탈퇴가 수를 틀어지게 하지 않도록)
+    public void add(String groupId, int delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            uncommitted.computeIfAbsent(groupId, k -> new AtomicInteger()).incrementAndGet();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deltas.computeIfAbsent(groupId, k -> new LongAdder()).add(delta);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    uncommitted.computeIfPresent(groupId, (k, count) -> count.decrementAndGet() == 0 ? null : count);
+                }
+            });
+        } else {
+            deltas.computeIfAbsent(groupId, k -> new LongAdder()).add(delta);
+        }
+        // 위의 기록보다 뒤에 확인해야 보정이 시작될 때 두 기록 중 하나에는 잡힌다
+        if (reconciling) {
+            touchedWhileReconciling.add(groupId);
+        }
+    }
+
+    // 아직 DB 에 반영되지 않은 증감 (반영 중인 증감 포함)
+    public long pending(String groupId) {
+        LongAdder adder = deltas.get(groupId);
+        return (adder == null ? 0 : adder.sum()) + inFlight.getOrDefault(groupId, 0L);
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public synchronized void flush() {
+        Map<String, Long> drained = new TreeMap<>();   // 항상 같은 순서로 갱신해 교착을 피함
+        for (Map.Entry<String, LongAdder> one : deltas.entrySet()) {
+            long delta = one.getValue().sumThenReset();
+            if (delta != 0) {
+                drained.put(one.getKey(), delta);
+            }
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+        inFlight = drained;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Map.Entry<String, Long> one : drained.entrySet()) {
+                    batchTemplate.update("studyGroup.addMemberCountDeltaById", Map.of("id", one.getKey(), "delta", one.getValue()));
+                }
+                batchTemplate.flushStatements();
+            });
+        } catch (RuntimeException e) {
+            // 트랜잭션이 롤백되었으므로 전부 다음 주기에 다시 시도
+            drained.forEach((id, delta) -> deltas.computeIfAbsent(id, k -> new LongAdder()).add(delta));
+            inFlight = Map.of();
+            log.error("failed to flush member count deltas of " + drained.size() + " groups", e);
+            return;
+        }
+
+        inFlight = Map.of();
+        for (String id : drained.keySet()) {
+            studyGroupCache.invalidate(id);
+        }
+    }
+
+    // study_members 기준으로 member_count 를 다시 맞춘다
+    // 아래 그룹은 증감이 이중으로 반영될 수 있으므로 이번 보정에서 제외한다
+    // - 아직 반영되지 않은 증감이나 커밋 전인 증감이 있는 그룹
+    // - 보정을 시작한 뒤 끝날 때까지 증감이 생긴 그룹 (차이를 읽기 전에 커밋되어 이미 센 가입일 수 있음)
+    // 고칠 때는 읽은 member_count 가 그대로인 행만 고친다 (그 사이 다른 인스턴스가 반영한 증감을 덮어쓰지 않도록)
+    @Scheduled(cron = "0 30 * * * *")
+    public synchronized void reconcile() {
+        flush();
+
+        reconciling = true;
+        try {
+            Set<String> busy = new HashSet<>(uncommitted.keySet());
+            deltas.forEach((id, adder) -> {
+                if (adder.sum() != 0) {
+                    busy.add(id);
+                }
+            });
+
+            int fixed = transactionTemplate.execute(status -> {
+                List<MemberCountDrift> drifts = batchTemplate.selectList("studyGroup.findMemberCountDrifts");
+                busy.addAll(touchedWhileReconciling);
+                int count = 0;
+                for (MemberCountDrift one : drifts) {
+                    if (!busy.contains(one.getGroupId())) {
+                        batchTemplate.update("studyGroup.updateMemberCountById", one);
+                        count++;
+                    }
+                }
+                batchTemplate.flushStatements();
+                return count;
+            });
+            if (fixed > 0) {
+                studyGroupCache.invalidateAll();
+                log.info("reconciled member count of " + fixed + " groups");
+            }
+        } catch (RuntimeException e) {
+            log.error("failed to reconcile member counts", e);
+        } finally {
+            reconciling = false;
+            touchedWhileReconciling.clear();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    // 종료 시 남은 증감을 모두 반영
+    @Override
+    public void stop() {
+        running = false;
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
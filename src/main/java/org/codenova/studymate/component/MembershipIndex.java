@@ -0,0 +1,57 @@
+package org.codenova.studymate.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.codenova.studymate.model.vo.MembershipStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// (userId, groupId) 별 가입 상태 색인
+// 가입 / 승인 / 탈퇴 / 철회 / 해산 시 해당 키만 무효화하고, 트랜잭션 종료 후 한 번 더 무효화한다
+// 무효화는 이 노드에만 적용되므로 다른 노드의 변경은 TIME_TO_LIVE 안에 반영된다
+// 권한 확인은 이 색인을 거치지 않는다 (StudyMemberRepository.findCurrentStatusByUserIdAndGroupId)
+@Component
+public class MembershipIndex {
+
+    private static final int MAXIMUM_SIZE = 100_000;
+    private static final Duration TIME_TO_LIVE = Duration.ofSeconds(30);
+
+    private final Cache<Key, MembershipStatus> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(TIME_TO_LIVE)
+            .build();
+
+    public MembershipStatus get(String userId, String groupId, Function<Key, MembershipStatus> loader) {
+        return cache.get(new Key(userId, groupId), loader);
+    }
+
+    public void invalidate(String userId, String groupId) {
+        Key key = new Key(userId, groupId);
+        cache.invalidate(key);
+        afterCompletion(() -> cache.invalidate(key));
+    }
+
+    // 그룹이 해산되면 그 그룹의 모든 상태를 지운다
+    public void invalidateGroup(String groupId) {
+        cache.asMap().keySet().removeIf(key -> key.groupId().equals(groupId));
+        afterCompletion(() -> cache.asMap().keySet().removeIf(key -> key.groupId().equals(groupId)));
+    }
+
+    private void afterCompletion(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    public record Key(String userId, String groupId) {
+    }
+}
@@ -0,0 +1,128 @@
+package org.codenova.studymate.component;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 스터디 그룹 글 수 / 최근 글 시각 버퍼 (대시보드 안 읽은 글 수)
+// 글을 쓸 때마다 study_groups 의 그룹 행을 갱신하면 인기 그룹의 글쓰기가 한 행의 잠금에서 줄을 서게 되므로,
+// MemberCountBuffer 와 같이 그룹별로 모았다가 주기적으로 그룹당 한 번의 update 로 반영한다
+// 대시보드의 안 읽은 글 수는 최대 한 주기 늦게 보인다
+// 반영한 그룹의 멤버 대시보드 버전을 올려서, 대시보드는 목록 조회 없이 ContentVersions 만으로 304 를 판단한다
+@Component
+public class PostActivityBuffer implements SmartLifecycle {
+
+    private static final Log log = LogFactory.getLog(PostActivityBuffer.class);
+
+    private final SqlSessionTemplate sqlSessionTemplate;
+    private final SqlSessionTemplate batchTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ContentVersions contentVersions;
+    private final Map<String, Activity> activities = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+
+    public PostActivityBuffer(SqlSessionFactory sqlSessionFactory, PlatformTransactionManager transactionManager,
+                              ContentVersions contentVersions) {
+        this.sqlSessionTemplate = new SqlSessionTemplate(sqlSessionFactory);
+        this.batchTemplate = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.contentVersions = contentVersions;
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋된 뒤에만 반영한다 (롤백된 글이 글 수를 늘리지 않도록)
+    public void add(String groupId, LocalDateTime wroteAt) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    merge(groupId, new Activity(1, wroteAt));
+                }
+            });
+        } else {
+            merge(groupId, new Activity(1, wroteAt));
+        }
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public synchronized void flush() {
+        Map<String, Activity> drained = new TreeMap<>();   // 항상 같은 순서로 갱신해 교착을 피함
+        for (String groupId : activities.keySet()) {
+            Activity one = activities.remove(groupId);
+            if (one != null) {
+                drained.put(groupId, one);
+            }
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Map.Entry<String, Activity> one : drained.entrySet()) {
+                    batchTemplate.update("studyGroup.addPostActivityById", Map.of("id", one.getKey(),
+                            "posts", one.getValue().posts(), "wroteAt", one.getValue().lastWroteAt()));
+                }
+                batchTemplate.flushStatements();
+            });
+        } catch (RuntimeException e) {
+            // 트랜잭션이 롤백되었으므로 전부 다음 주기에 다시 시도
+            drained.forEach(this::merge);
+            log.error("failed to flush post activity of " + drained.size() + " groups", e);
+            return;
+        }
+
+        // 커밋된 뒤에 올려야 새 버전으로 이전 글 수가 보관되지 않는다
+        for (String groupId : drained.keySet()) {
+            try {
+                List<String> memberIds = sqlSessionTemplate.selectList("studyMember.findJoinedUserIdsByGroupId", groupId);
+                memberIds.forEach(contentVersions::bumpDashboard);
+            } catch (RuntimeException e) {
+                log.error("failed to bump dashboards of group " + groupId, e);
+            }
+        }
+    }
+
+    private void merge(String groupId, Activity activity) {
+        activities.merge(groupId, activity, Activity::plus);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    // 종료 시 남은 글 수를 모두 반영
+    @Override
+    public void stop() {
+        running = false;
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private record Activity(int posts, LocalDateTime lastWroteAt) {
+        Activity plus(Activity other) {
+            return new Activity(posts + other.posts,
+                    lastWroteAt.isAfter(other.lastWroteAt) ? lastWroteAt : other.lastWroteAt);
+        }
+    }
+}
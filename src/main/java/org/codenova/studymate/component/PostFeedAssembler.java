@@ -0,0 +1,78 @@
+package org.codenova.studymate.component;
+
+import lombok.AllArgsConstructor;
+import org.codenova.studymate.model.query.PostWithDetail;
+import org.codenova.studymate.model.vo.PostMeta;
+import org.codenova.studymate.model.vo.PostPage;
+import org.ocpsoft.prettytime.PrettyTime;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 게시글 조회 결과(PostWithDetail)를 화면용 PostMeta 페이지로 변환
+// (wrote_at, id) 키셋 커서는 "wroteAt_id" 문자열로 주고받는다
+@Component
+@AllArgsConstructor
+public class PostFeedAssembler {
+    private AvatarCatalog avatarCatalog;
+
+    // post.findPageWithDetailByGroupId 조회 조건, 다음 페이지 존재 여부 확인을 위해 하나 더 조회한다
+    // 커서 형식이 잘못되면 IllegalArgumentException
+    public Map<String, Object> pageParams(String groupId, String before, int size) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("groupId", groupId);
+        params.put("size", size + 1);
+        if (before != null) {
+            int split = before.lastIndexOf('_');
+            if (split < 0) {
+                throw new IllegalArgumentException("invalid cursor : " + before);
+            }
+            try {
+                params.put("cursorWroteAt", LocalDateTime.parse(before.substring(0, split)));
+                params.put("cursorId", Integer.parseInt(before.substring(split + 1)));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("invalid cursor : " + before, e);
+            }
+        }
+        return params;
+    }
+
+    public PostPage assemble(List<PostWithDetail> posts, int size) {
+        String nextCursor = null;
+        if (posts.size() > size) {
+            posts = posts.subList(0, size);
+            PostWithDetail last = posts.get(posts.size() - 1);
+            nextCursor = last.getWroteAt() + "_" + last.getId();
+        }
+
+        // 게시글 정보를 가공하여 저장할 리스트 생성
+        List<PostMeta> postMetas = new ArrayList<>();
+
+        // 작성 시간을 '몇 분 전', '몇 시간 전'과 같이 보기 좋게 변환
+        PrettyTime prettyTime = new PrettyTime();
+        for (PostWithDetail post : posts) {
+            // 변환된 정보를 리스트에 추가
+            postMetas.add(toPostMeta(post, prettyTime));
+        }
+
+        return PostPage.builder().posts(postMetas).nextCursor(nextCursor).build();
+    }
+
+    public PostMeta toPostMeta(PostWithDetail post, PrettyTime prettyTime) {
+        return PostMeta.builder()
+                .id(post.getId())   // 게시글 ID
+                .content(post.getContent())   // 게시글 내용
+                .writerName(post.getWriterName())   // 작성자 이름
+                .writerAvatar(avatarCatalog.findImageUrlById(post.getWriterAvatarId()))    // 작성자 프로필 이미지
+                .time(prettyTime.format(post.getWroteAt()))   // 변환된 시간
+                .wroteAt(post.getWroteAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())   // 작성 시각
+                .reactions(post.getReactions())   // 게시글에 대한 반응 정보
+                .build();
+    }
+}
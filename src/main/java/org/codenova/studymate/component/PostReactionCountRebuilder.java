@@ -0,0 +1,60 @@
+package org.codenova.studymate.component;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.codenova.studymate.repository.PostReactionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 감정 집계(post_reaction_counts)를 post_reactions 로부터 다시 계산하는 운영 작업
+// studymate.reactions.rebuild-on-start=true 로 기동하면 백그라운드 스레드에서 한 번 실행한다
+// 게시글 하나씩 각자의 트랜잭션으로 재계산하므로, 서비스 중에 실행해도 감정 누르기와 집계가 어긋나지 않는다
+@Component
+public class PostReactionCountRebuilder {
+
+    private static final Log log = LogFactory.getLog(PostReactionCountRebuilder.class);
+    private static final int PAGE_SIZE = 500;
+
+    private final PostReactionRepository postReactionRepository;
+    private final boolean rebuildOnStart;
+
+    public PostReactionCountRebuilder(PostReactionRepository postReactionRepository,
+                                      @Value("${studymate.reactions.rebuild-on-start:false}") boolean rebuildOnStart) {
+        this.postReactionRepository = postReactionRepository;
+        this.rebuildOnStart = rebuildOnStart;
+    }
+
+    @EventListener(ContextRefreshedEvent.class)
+    public void onStart() {
+        if (rebuildOnStart) {
+            Thread.ofPlatform().name("reaction-count-rebuild").daemon().start(this::rebuildAll);
+        }
+    }
+
+    // 재계산한 게시글 수를 반환
+    public int rebuildAll() {
+        int rebuilt = 0;
+        int after = 0;
+        try {
+            while (true) {
+                List<Integer> postIds = postReactionRepository.findCountedPostIdPage(after, PAGE_SIZE);
+                for (int one : postIds) {
+                    postReactionRepository.rebuildCountsByPostId(one);
+                }
+                rebuilt += postIds.size();
+                if (postIds.size() < PAGE_SIZE) {
+                    break;
+                }
+                after = postIds.get(postIds.size() - 1);
+            }
+            log.info("rebuilt reaction counts of " + rebuilt + " posts");
+        } catch (RuntimeException e) {
+            log.error("failed to rebuild reaction counts after post " + after, e);
+        }
+        return rebuilt;
+    }
+}
@@ -0,0 +1,192 @@
+package org.codenova.studymate.component;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// WEB-INF/migrations/V{버전}__{설명}.sql 을 버전 순서대로 한 번씩 적용하고 schema_history 에 기록한다
+// - sqlSessionFactory 가 이 빈에 의존(depends-on)하므로 매퍼가 쓰이기 전에 스키마가 맞춰진다
+// - 여러 인스턴스가 동시에 뜨더라도 MySQL 이름 잠금(get_lock)으로 한 곳에서만 적용한다
+// - 이미 적용된 파일의 내용이 바뀌면 기동을 멈춘다 (적용된 마이그레이션은 고치지 말고 새 버전을 추가)
+// - 이 기능 이전에 수동으로 적용해 둔 DB 는 studymate.migrations.baseline-version 으로
+//   그 버전까지를 적용된 것으로 기록만 하고 넘어간다 (schema_history 가 비어 있을 때만)
+@Component("schemaMigrator")
+public class SchemaMigrator implements InitializingBean {
+
+    private static final Log log = LogFactory.getLog(SchemaMigrator.class);
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d+)__(.+)\\.sql");
+    private static final String LOCK_NAME = "studymate_schema_migration";
+
+    private final DataSource dataSource;
+    private final Resource[] scripts;
+    private final boolean enabled;
+    private final int baselineVersion;
+
+    public SchemaMigrator(DataSource dataSource,
+                          @Value("${studymate.migrations.location:/WEB-INF/migrations/V*.sql}") Resource[] scripts,
+                          @Value("${studymate.migrations.enabled:true}") boolean enabled,
+                          @Value("${studymate.migrations.baseline-version:-1}") int baselineVersion) {
+        this.dataSource = dataSource;
+        this.scripts = scripts;
+        this.enabled = enabled;
+        this.baselineVersion = baselineVersion;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws SQLException, IOException {
+        if (!enabled) {
+            log.info("schema migrations are disabled");
+            return;
+        }
+
+        Map<Integer, Migration> migrations = new TreeMap<>();
+        for (Resource one : scripts) {
+            Migration migration = Migration.of(one);
+            Migration duplicate = migrations.put(migration.version(), migration);
+            if (duplicate != null) {
+                throw new IllegalStateException("duplicate migration version " + migration.version()
+                        + " : " + duplicate.fileName() + ", " + migration.fileName());
+            }
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);   // DDL 은 어차피 암묵적으로 커밋된다
+            lock(connection);
+            try {
+                migrate(connection, migrations);
+            } finally {
+                unlock(connection);
+            }
+        }
+    }
+
+    private void migrate(Connection connection, Map<Integer, Migration> migrations) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    create table if not exists schema_history (
+                        version          int          not null primary key,
+                        description      varchar(200) not null,
+                        checksum         char(64)     not null,
+                        execution_millis int          not null,
+                        installed_at     datetime     not null
+                    )""");
+        }
+
+        Map<Integer, String> applied = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("select version, checksum from schema_history")) {
+            while (rs.next()) {
+                applied.put(rs.getInt(1), rs.getString(2));
+            }
+        }
+        boolean baseline = applied.isEmpty() && baselineVersion >= 0;
+
+        int count = 0;
+        for (Migration one : migrations.values()) {
+            String checksum = applied.get(one.version());
+            if (checksum != null) {
+                if (!checksum.equals(one.checksum())) {
+                    throw new IllegalStateException("applied migration " + one.fileName() + " has been modified");
+                }
+                continue;
+            }
+
+            if (baseline && one.version() <= baselineVersion) {
+                record(connection, one, 0);
+                log.info("baselined migration " + one.fileName());
+                continue;
+            }
+
+            long startedAt = System.currentTimeMillis();
+            try {
+                ScriptUtils.executeSqlScript(connection, new EncodedResource(one.resource(), StandardCharsets.UTF_8));
+            } catch (RuntimeException e) {
+                throw new IllegalStateException("failed to apply migration " + one.fileName()
+                        + " (existing schema? set studymate.migrations.baseline-version)", e);
+            }
+            long elapsed = System.currentTimeMillis() - startedAt;
+            record(connection, one, elapsed);
+            log.info("applied migration " + one.fileName() + " in " + elapsed + " ms");
+            count++;
+        }
+
+        log.info("schema is up to date (" + migrations.size() + " migrations, " + count + " applied now)");
+    }
+
+    private void record(Connection connection, Migration migration, long elapsed) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(
+                "insert into schema_history (version, description, checksum, execution_millis, installed_at) values (?, ?, ?, ?, now())")) {
+            ps.setInt(1, migration.version());
+            ps.setString(2, migration.description());
+            ps.setString(3, migration.checksum());
+            ps.setInt(4, (int) elapsed);
+            ps.executeUpdate();
+        }
+    }
+
+    private void lock(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("select get_lock(?, 300)")) {
+            ps.setString(1, LOCK_NAME);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next() || rs.getInt(1) != 1) {
+                    throw new IllegalStateException("could not acquire schema migration lock");
+                }
+            }
+        }
+    }
+
+    private void unlock(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("select release_lock(?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.executeQuery().close();
+        }
+    }
+
+    record Migration(int version, String description, String fileName, String checksum, Resource resource) {
+
+        static Migration of(Resource resource) throws IOException {
+            String fileName = resource.getFilename();
+            Matcher matcher = FILE_NAME.matcher(fileName == null ? "" : fileName);
+            if (!matcher.matches()) {
+                throw new IllegalStateException("invalid migration file name : " + fileName);
+            }
+            byte[] content;
+            try (InputStream in = resource.getInputStream()) {
+                content = in.readAllBytes();
+            }
+            return new Migration(Integer.parseInt(matcher.group(1)), matcher.group(2).replace('_', ' '),
+                    fileName, sha256(content), resource);
+        }
+
+        private static String sha256(byte[] content) {
+            try {
+                return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.codenova.studymate.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.codenova.studymate.model.vo.MembershipStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 스터디 그룹 화면의 게시글 영역(study/feed.jsp)을 렌더링된 HTML 그대로 보관하는 캐시
+// - 키는 (그룹 ID, 그룹 버전(ContentVersions), 보는 사람의 가입 상태)
+//   이전 버전의 조각은 다시 조회되지 않으므로 크기 제한에 따라 자연스럽게 밀려난다
+// - "3분 전" 같은 상대 시간이 오래 고정되지 않도록 짧은 TTL 을 둔다
+@Component
+public class StudyFeedCache {
+
+    private final ContentVersions contentVersions;
+    private final Cache<Key, String> fragments;
+
+    public StudyFeedCache(ContentVersions contentVersions,
+                          @Value("${studymate.feed-cache.maximum-size:2000}") long maximumSize,
+                          @Value("${studymate.feed-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.contentVersions = contentVersions;
+        this.fragments = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    // 게시글 조회 전에 키를 만들어야 한다 (조회 도중 버전이 올라가면 그 조각은 다음 요청에서 쓰이지 않음)
+    public Key key(String groupId, MembershipStatus status) {
+        return new Key(groupId, contentVersions.group(groupId).version(), status);
+    }
+
+    public String get(Key key) {
+        return fragments.getIfPresent(key);
+    }
+
+    // 렌더링 결과를 받아 캐시에 저장하는 객체, 뷰에서 <c:set target="${feedSlot}" property="html"/> 로 채운다
+    public Slot slot(Key key) {
+        return new Slot(key);
+    }
+
+    public CacheStats stats() {
+        return fragments.stats();
+    }
+
+    public long size() {
+        return fragments.estimatedSize();
+    }
+
+    public record Key(String groupId, long version, MembershipStatus status) {
+    }
+
+    public class Slot {
+        private final Key key;
+
+        private Slot(Key key) {
+            this.key = key;
+        }
+
+        public void setHtml(String html) {
+            fragments.put(key, html);
+        }
+    }
+}
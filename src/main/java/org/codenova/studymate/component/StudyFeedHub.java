@@ -0,0 +1,199 @@
+package org.codenova.studymate.component;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 스터디 그룹별 실시간 이벤트(Server-Sent Events) 전달
+// - 연결은 서블릿 비동기 요청(SseEmitter)으로 유지하므로 대기 중인 연결은 스레드를 차지하지 않는다
+// - 클라이언트마다 크기가 정해진 버퍼를 두고, 버퍼에 이벤트가 있는 동안만 그 클라이언트 전용 가상 스레드가 버퍼를 비운다
+//   느린 클라이언트의 쓰기가 막혀도 그 클라이언트의 가상 스레드만 기다린다 (실행 대기열 없음, 동시에 최대 연결 수만큼)
+//   버퍼가 가득 찬(읽지 못하는) 클라이언트와 한 번의 쓰기가 writeTimeoutMillis 를 넘긴 클라이언트는 연결을 끊는다
+//   브라우저(EventSource)가 다시 연결하면 화면을 새로 읽는다
+// - 25초마다 주석 이벤트를 보내 프록시가 유휴 연결을 끊지 않게 하고 끊어진 연결을 정리한다
+@Component
+public class StudyFeedHub implements DisposableBean {
+
+    private static final Log log = LogFactory.getLog(StudyFeedHub.class);
+
+    private final Map<String, Set<Client>> groups = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final SimpleAsyncTaskExecutor sender;
+    private final int bufferSize;
+    private final int maxConnections;
+    private final long timeoutMillis;
+    private final long writeTimeoutMillis;
+
+    public StudyFeedHub(@Value("${studymate.sse.buffer-size:32}") int bufferSize,
+                        @Value("${studymate.sse.max-connections:10000}") int maxConnections,
+                        @Value("${studymate.sse.timeout-millis:1800000}") long timeoutMillis,
+                        @Value("${studymate.sse.write-timeout-millis:10000}") long writeTimeoutMillis) {
+        this.bufferSize = bufferSize;
+        this.maxConnections = maxConnections;
+        this.timeoutMillis = timeoutMillis;
+        this.writeTimeoutMillis = writeTimeoutMillis;
+
+        this.sender = new SimpleAsyncTaskExecutor("sse-sender-");
+        sender.setVirtualThreads(true);
+    }
+
+    // 연결 수가 한도를 넘으면 null (호출한 쪽에서 503 응답)
+    public SseEmitter subscribe(String groupId) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            return null;
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Client client = new Client(groupId, emitter);
+        groups.computeIfAbsent(groupId, k -> ConcurrentHashMap.newKeySet()).add(client);
+        emitter.onCompletion(() -> remove(client));
+        emitter.onTimeout(() -> remove(client));
+        emitter.onError(e -> remove(client));
+
+        // 연결 직후 한 번 보내서 응답 헤더를 내보낸다
+        client.offer(SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    // 그룹에 연결된 모든 클라이언트에 이벤트 전송
+    // 트랜잭션 안에서 호출되면 커밋된 뒤에 data 를 만들어 보낸다 (롤백된 변경을 알리지 않도록)
+    public void publish(String groupId, String name, Supplier<?> data) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(groupId, name, data);
+                }
+            });
+        } else {
+            send(groupId, name, data);
+        }
+    }
+
+    public int connections() {
+        return connections.get();
+    }
+
+    // 쓰기가 writeTimeoutMillis 넘게 끝나지 않는 클라이언트는 끊고, 나머지에는 ping 을 보낸다
+    @Scheduled(fixedDelay = 25_000)
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        for (Set<Client> clients : groups.values()) {
+            for (Client one : clients) {
+                long since = one.sendingSince;
+                if (since != 0 && now - since > writeTimeoutMillis) {
+                    one.close(new IOException("write to sse client stalled for " + (now - since) + " ms"));
+                } else {
+                    one.offer(SseEmitter.event().comment("ping"));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        for (Set<Client> clients : groups.values()) {
+            for (Client one : clients) {
+                one.emitter.complete();
+            }
+        }
+        sender.close();
+    }
+
+    private void send(String groupId, String name, Supplier<?> data) {
+        Set<Client> clients = groups.get(groupId);
+        if (clients == null || clients.isEmpty()) {
+            return;   // 보는 사람이 없으면 이벤트 내용도 만들지 않는다
+        }
+        Object payload;
+        try {
+            payload = data.get();
+        } catch (RuntimeException e) {
+            log.error("failed to build " + name + " event of group " + groupId, e);
+            return;
+        }
+        for (Client one : clients) {
+            one.offer(SseEmitter.event().name(name).data(payload));
+        }
+    }
+
+    private void remove(Client client) {
+        Set<Client> clients = groups.get(client.groupId);
+        if (clients != null && clients.remove(client)) {
+            connections.decrementAndGet();
+            if (clients.isEmpty()) {
+                groups.remove(client.groupId, clients);
+            }
+        }
+    }
+
+    private class Client {
+        private final String groupId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile long sendingSince;   // 진행 중인 쓰기의 시작 시각, 쓰고 있지 않으면 0
+
+        private Client(String groupId, SseEmitter emitter) {
+            this.groupId = groupId;
+            this.emitter = emitter;
+        }
+
+        private void offer(SseEmitter.SseEventBuilder event) {
+            if (!buffer.offer(event)) {
+                // 읽는 속도보다 이벤트가 빠르게 쌓이는 클라이언트는 끊는다
+                remove(this);
+                emitter.complete();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while ((event = buffer.poll()) != null) {
+                    sendingSince = System.currentTimeMillis();
+                    emitter.send(event);
+                    sendingSince = 0;
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 이미 끊어진 연결
+                close(e);
+            } finally {
+                sendingSince = 0;
+                draining.set(false);
+            }
+            // 비우는 동안 새로 들어온 이벤트가 있으면 다시 예약
+            if (!buffer.isEmpty() && draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void close(Exception cause) {
+            remove(this);
+            buffer.clear();
+            emitter.completeWithError(cause);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.codenova.studymate.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.codenova.studymate.model.entity.StudyGroup;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// studyGroup.findById 앞단의 읽기 캐시 (크기 / TTL 제한)
+// 멤버 수가 바뀌거나 그룹이 삭제되면 해당 그룹만 정확히 무효화한다
+@Component
+public class StudyGroupCache {
+
+    private static final int MAXIMUM_SIZE = 10_000;
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    private final Cache<String, StudyGroup> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(TIME_TO_LIVE)
+            .recordStats()
+            .build();
+
+    // 캐시에 없으면 loader 로 읽어 저장, 존재하지 않는 그룹(null)은 저장하지 않는다
+    public StudyGroup get(String id, Function<String, StudyGroup> loader) {
+        return cache.get(id, loader);
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 직후에 한 번 더 무효화해서,
+    // 커밋 전에 다른 요청이 읽어 둔 이전 값(memberCount)이 남지 않게 한다
+    public void invalidate(String id) {
+        cache.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(id);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+}
@@ -0,0 +1,162 @@
+package org.codenova.studymate.component;
+
+import org.codenova.studymate.model.entity.StudyGroup;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 스터디 그룹 이름 / 목표에 대한 메모리 역색인
+// 한글은 띄어쓰기 단위로 자르면 부분 검색이 안 되므로 글자 단위 바이그램(2-gram)으로 색인한다
+// 바이그램 후보를 교집합으로 좁힌 뒤 실제 포함 여부를 다시 확인하므로 결과는 like '%word%' 와 같다
+// 이 인스턴스의 생성 / 해산만 바로 반영되므로, 다른 인스턴스의 변경은 주기적인 reload 로 맞춘다
+@Component
+public class StudyGroupSearchIndex {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> postings = new ConcurrentHashMap<>();
+    private final Set<String> touchedWhileReloading = ConcurrentHashMap.newKeySet();
+    private volatile boolean reloading;
+
+    public synchronized void load(List<StudyGroup> groups) {
+        entries.clear();
+        postings.clear();
+        for (StudyGroup one : groups) {
+            put(one);
+        }
+    }
+
+    // 전체 그룹을 다시 읽어 맞춘다 (비우지 않고 바뀐 것만 반영하므로 그동안에도 검색된다)
+    // 읽는 동안 이 인스턴스에서 추가 / 제거된 그룹은 읽은 목록보다 새로우므로 그대로 둔다
+    public void reload(Supplier<List<StudyGroup>> loader) {
+        touchedWhileReloading.clear();
+        reloading = true;
+        try {
+            List<StudyGroup> groups = loader.get();
+            synchronized (this) {
+                Set<String> loaded = new HashSet<>();
+                for (StudyGroup one : groups) {
+                    loaded.add(one.getId());
+                    if (!touchedWhileReloading.contains(one.getId())) {
+                        put(one);
+                    }
+                }
+                for (String id : new ArrayList<>(entries.keySet())) {
+                    if (!loaded.contains(id) && !touchedWhileReloading.contains(id)) {
+                        delete(id);
+                    }
+                }
+            }
+        } finally {
+            reloading = false;
+        }
+    }
+
+    public synchronized void add(StudyGroup group) {
+        if (reloading) {
+            touchedWhileReloading.add(group.getId());
+        }
+        put(group);
+    }
+
+    public synchronized void remove(String id) {
+        if (reloading) {
+            touchedWhileReloading.add(id);
+        }
+        delete(id);
+    }
+
+    private void put(StudyGroup group) {
+        Entry entry = new Entry(group.getId(), normalize(group.getName()), normalize(group.getGoal()),
+                group.getCreatedAt() == null ? LocalDateTime.now() : group.getCreatedAt());
+        delete(group.getId());
+        entries.put(entry.id, entry);
+        for (String token : entry.tokens()) {
+            postings.computeIfAbsent(token, k -> ConcurrentHashMap.newKeySet()).add(entry.id);
+        }
+    }
+
+    private void delete(String id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        for (String token : entry.tokens()) {
+            Set<String> ids = postings.get(token);
+            if (ids != null) {
+                ids.remove(id);
+            }
+        }
+    }
+
+    // 검색어를 포함하는 그룹 ID 를 관련도 순으로 반환
+    // 이름에 포함된 그룹이 목표에만 포함된 그룹보다 앞서고, 같으면 최근에 만들어진 그룹이 앞선다
+    public List<String> search(String word) {
+        String query = normalize(word);
+        if (query.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> candidates = null;
+        for (String token : tokenize(query)) {
+            Set<String> ids = postings.getOrDefault(token, Set.of());
+            if (candidates == null || ids.size() < candidates.size()) {
+                candidates = ids;
+            }
+        }
+
+        List<Entry> matched = new ArrayList<>();
+        for (String id : candidates) {
+            Entry entry = entries.get(id);
+            if (entry != null && entry.score(query) > 0) {
+                matched.add(entry);
+            }
+        }
+        matched.sort(Comparator.comparingInt((Entry e) -> e.score(query)).reversed()
+                .thenComparing((Entry e) -> e.createdAt, Comparator.reverseOrder()));
+
+        List<String> result = new ArrayList<>(matched.size());
+        for (Entry entry : matched) {
+            result.add(entry.id);
+        }
+        return result;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase();
+    }
+
+    // 한 글자 검색어도 찾을 수 있도록 유니그램과 바이그램을 함께 만든다
+    private static Set<String> tokenize(String text) {
+        Set<String> tokens = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            tokens.add(text.substring(i, i + 1));
+            if (i + 1 < text.length()) {
+                tokens.add(text.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    private record Entry(String id, String name, String goal, LocalDateTime createdAt) {
+
+        Set<String> tokens() {
+            Set<String> tokens = tokenize(name);
+            tokens.addAll(tokenize(goal));
+            return tokens;
+        }
+
+        int score(String query) {
+            if (name.contains(query)) {
+                return 2;
+            }
+            return goal.contains(query) ? 1 : 0;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.codenova.studymate.component;
+
+import lombok.AllArgsConstructor;
+import org.codenova.studymate.model.vo.StudyGroupWithCreator;
+import org.codenova.studymate.repository.StudyGroupRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 검색 결과(관련도 순 그룹 ID)를 페이지로 나누고, 한 페이지의 그룹 / 생성자를 관련도 순서대로 조회
+@Component
+@AllArgsConstructor
+public class StudyGroupSearchPager {
+    public static final int PAGE_SIZE = 10;  // 검색 결과 한 페이지 크기
+
+    private StudyGroupRepository studyGroupRepository;
+
+    // page 는 1 부터, 범위를 넘으면 빈 목록 (아주 큰 page 도 int 넘침 없이 long 으로 계산)
+    public List<String> pageIds(List<String> ids, int page) {
+        int from = (int) Math.min((Math.max(page, 1) - 1L) * PAGE_SIZE, ids.size());
+        int to = Math.min(from + PAGE_SIZE, ids.size());
+        return ids.subList(from, to);
+    }
+
+    public int lastPage(int count) {
+        return Math.max((count + PAGE_SIZE - 1) / PAGE_SIZE, 1);
+    }
+
+    // 그룹과 생성자 정보를 한 번의 조인으로 조회 (in 조회는 순서를 보장하지 않으므로 pageIds 순서로 복원)
+    // 그 사이 삭제된 그룹은 빠진다
+    public List<StudyGroupWithCreator> findPage(List<String> pageIds) {
+        Map<String, StudyGroupWithCreator> found = new HashMap<>();
+        for (StudyGroupWithCreator one : studyGroupRepository.findWithCreatorByIds(pageIds)) {
+            found.put(one.getGroup().getId(), one);
+        }
+        List<StudyGroupWithCreator> result = new ArrayList<>();
+        for (String one : pageIds) {
+            if (found.containsKey(one)) {
+                result.add(found.get(one));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,189 @@
+package org.codenova.studymate.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+// 공부 시간 하트비트 (공부 중인 화면이 30초마다 보냄) 를 모아서 users.study_time(초) 에 반영한다
+// - 요청은 하트비트를 큐에 넣기만 하고, 주기적으로 하트비트마다 한 번의 update 를 한 트랜잭션의 배치로 보낸다
+//   비정상 종료 시 잃는 것은 마지막 반영 이후의 한 주기뿐이다
+// - 하트비트 하나가 인정하는 시간은 직전 하트비트를 받은 뒤 흐른 시간 (최대 heartbeatSeconds), 1초 미만은 DB 에 남겨 다음에 더한다
+// - 중복 확인은 DB 에서 : users.last_study_beat 보다 큰 beat 만 반영하므로, 재전송 / 중복 요청이 다른 인스턴스로 가도
+//   시간은 한 번만 늘어난다 (인스턴스마다 세션의 첫 하트비트를 따로 인정하지도 않는다)
+//   이 인스턴스의 마지막 beat 는 메모리에도 두어 같은 인스턴스로 온 중복은 큐에 넣지 않는다
+// - 순위표와 응답의 인정 시간(creditedMillis)은 이 인스턴스가 본 하트비트로 계산한 추정값, 순위표는 Leaderboards.reload 에서 맞춰진다
+@Component
+public class StudyTimeAccumulator implements SmartLifecycle {
+
+    private static final Log log = LogFactory.getLog(StudyTimeAccumulator.class);
+
+    private final SqlSessionTemplate batchTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Leaderboards leaderboards;
+    private final long heartbeatMillis;
+    private final Queue<QueuedBeat> queue = new ConcurrentLinkedQueue<>();
+    private final Map<String, LongAdder> queuedMillis = new ConcurrentHashMap<>();   // 큐에 있는 추정 시간 (pending)
+    private final Map<String, Long> boardMillis = new HashMap<>();   // 순위표에 아직 더하지 않은 1초 미만 (flush 안에서만)
+    private final Cache<String, Beat> lastBeats;   // 이 인스턴스로 온, 공부 중인 사용자의 마지막 하트비트
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+
+    private volatile boolean running;
+
+    public StudyTimeAccumulator(SqlSessionFactory sqlSessionFactory,
+                                PlatformTransactionManager transactionManager,
+                                Leaderboards leaderboards,
+                                @Value("${studymate.study-time.heartbeat-seconds:30}") int heartbeatSeconds,
+                                @Value("${studymate.study-time.session-gap-seconds:300}") int sessionGapSeconds) {
+        this.batchTemplate = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.leaderboards = leaderboards;
+        this.heartbeatMillis = heartbeatSeconds * 1000L;
+        // 이 시간 동안 하트비트가 없으면 공부를 멈춘 것으로 보고 다음 하트비트는 새 공부로 시작
+        this.lastBeats = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(sessionGapSeconds))
+                .build();
+    }
+
+    // 이 인스턴스가 추정한 인정 시간(ms)을 반환, 이 인스턴스에서 이미 받은 beat 면 -1
+    // 1초 안에 연달아 온 하트비트도 흐른 시간만큼 인정하므로, 하트비트 간격과 상관없이 시간이 빠지지 않는다
+    public long heartbeat(String userId, long beat) {
+        long now = System.currentTimeMillis();
+        long[] credited = {-1};
+        lastBeats.asMap().compute(userId, (key, last) -> {
+            if (last != null && beat <= last.beat()) {
+                return last;   // 재전송 / 중복
+            }
+            long elapsed = last == null ? heartbeatMillis : now - last.at();
+            credited[0] = Math.max(0, Math.min(elapsed, heartbeatMillis));
+            return new Beat(beat, now);
+        });
+
+        if (credited[0] < 0) {
+            duplicates.increment();
+            return -1;
+        }
+        queuedMillis.computeIfAbsent(userId, k -> new LongAdder()).add(credited[0]);
+        queue.add(new QueuedBeat(userId, beat, now, credited[0]));
+        return credited[0];
+    }
+
+    // 아직 DB 에 반영되지 않은 시간(초) (반영 중인 시간 포함, 추정값)
+    public long pending(String userId) {
+        LongAdder adder = queuedMillis.get(userId);
+        return adder == null ? 0 : adder.sum() / 1000;
+    }
+
+    @Scheduled(fixedDelayString = "${studymate.study-time.flush-millis:5000}")
+    public synchronized void flush() {
+        List<QueuedBeat> drained = new ArrayList<>();
+        for (QueuedBeat one = queue.poll(); one != null; one = queue.poll()) {
+            drained.add(one);
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+        // 항상 같은 순서로 갱신해 교착을 피하고, 같은 사용자의 하트비트는 beat 순서대로 반영
+        drained.sort(Comparator.comparing(QueuedBeat::userId).thenComparingLong(QueuedBeat::beat));
+
+        int[] counts;
+        try {
+            counts = transactionTemplate.execute(status -> {
+                for (QueuedBeat one : drained) {
+                    batchTemplate.update("user.addStudyBeatById", Map.of("id", one.userId(), "beat", one.beat(),
+                            "at", one.at(), "maxMillis", heartbeatMillis));
+                }
+                List<BatchResult> results = batchTemplate.flushStatements();
+                return results.get(0).getUpdateCounts();
+            });
+        } catch (RuntimeException e) {
+            // 트랜잭션이 롤백되었으므로 전부 다음 주기에 다시 시도 (이미 반영된 beat 는 DB 에서 걸러지므로 다시 보내도 안전)
+            queue.addAll(drained);
+            log.error("failed to flush " + drained.size() + " study heartbeats", e);
+            return;
+        }
+
+        Map<String, Long> credited = new TreeMap<>();
+        for (int i = 0; i < drained.size(); i++) {
+            QueuedBeat one = drained.get(i);
+            queuedMillis.computeIfAbsent(one.userId(), k -> new LongAdder()).add(-one.millis());
+            if (counts[i] > 0) {
+                accepted.increment();
+                credited.merge(one.userId(), one.millis(), Long::sum);
+            } else {
+                duplicates.increment();   // 다른 인스턴스에서 이미 반영된 beat
+            }
+        }
+
+        credited.forEach((id, value) -> {
+            long total = boardMillis.getOrDefault(id, 0L) + value;
+            if (total >= 1000) {
+                leaderboards.add(Leaderboards.Metric.STUDY_TIME, id, total / 1000);
+            }
+            if (total % 1000 == 0) {
+                boardMillis.remove(id);
+            } else {
+                boardMillis.put(id, total % 1000);
+            }
+        });
+    }
+
+    public long acceptedCount() {
+        return accepted.sum();
+    }
+
+    public long duplicateCount() {
+        return duplicates.sum();
+    }
+
+    public int studyingUsers() {
+        return (int) lastBeats.estimatedSize();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    // 종료 시 남은 시간을 모두 반영
+    @Override
+    public void stop() {
+        running = false;
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private record Beat(long beat, long at) {
+    }
+
+    private record QueuedBeat(String userId, long beat, long at, long millis) {
+    }
+}
@@ -1,18 +1,20 @@
 package org.codenova.studymate.controller;
 
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.codenova.studymate.component.AvatarCatalog;
+import org.codenova.studymate.component.LoginWriteBehind;
 import org.codenova.studymate.model.entity.User;
 import org.codenova.studymate.model.query.UserWithAvatar;
-import org.codenova.studymate.repository.AvatarRepository;
-import org.codenova.studymate.repository.LoginLogRepository;
 import org.codenova.studymate.repository.UserRepository;
+import org.codenova.studymate.session.UserSessions;
 import org.springframework.stereotype.Controller;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
@@ -21,15 +23,16 @@ import org.springframework.web.bind.annotation.RequestParam;
 @AllArgsConstructor
 public class AuthController {
 
-    private AvatarRepository avatarRepository;
+    private AvatarCatalog avatarCatalog;
     private UserRepository userRepository;
-    private LoginLogRepository loginLogRepository;
+    private LoginWriteBehind loginWriteBehind;
+    private UserSessions userSessions;
 
 
     @RequestMapping("/signup")
     public String signupHandle(Model model) {
 
-        model.addAttribute("avatars", avatarRepository.findAll());
+        model.addAttribute("avatars", avatarCatalog.findAll());
 
         return "auth/signup";
     }
@@ -55,12 +58,12 @@ public class AuthController {
         return "auth/login";
     }
 
-    @Transactional
     @RequestMapping("/login/verify")
     public String loginVerifyHandle(@RequestParam("id") String id,
                                     @RequestParam("password") String password,
                                     Model model,
-                                    HttpSession session) {
+                                    HttpServletRequest request,
+                                    HttpServletResponse response) {
 
         UserWithAvatar found = userRepository.findWithAvatarById(id);
 
@@ -71,17 +74,26 @@ public class AuthController {
             return "auth/verify-failed";
         } else {
             // 로그인 성공 시 처리
-            userRepository.updateLoginCountByUserId(id);
-            loginLogRepository.create(id);
+            // 로그인 횟수 증가와 로그인 기록은 백그라운드에서 모아서 저장
+            loginWriteBehind.recordLogin(id);
 
-            session.setAttribute("user", found);
+            // 세션 저장소에는 사용자 ID / 아바타 ID / 세션 버전만 저장
+            userSessions.login(found, request, response);
             return "redirect:/index";
         }
     }
 
     @RequestMapping("/logout")
-    public String logoutHandle(HttpSession session) {
-        session.invalidate();
+    public String logoutHandle(HttpServletRequest request, HttpServletResponse response) {
+        userSessions.logout(request, response);
+        return "redirect:/index";
+    }
+
+    // 모든 기기에서 로그아웃 (다른 기기의 세션도 무효화)
+    @RequestMapping("/logout-all")
+    public String logoutAllHandle(@RequestAttribute("user") UserWithAvatar user,
+                                  HttpServletRequest request, HttpServletResponse response) {
+        userSessions.logoutEverywhere(user.getId(), request, response);
         return "redirect:/index";
     }
 }
@@ -0,0 +1,101 @@
+package org.codenova.studymate.controller;
+
+import lombok.AllArgsConstructor;
+import org.codenova.studymate.component.Leaderboard;
+import org.codenova.studymate.component.Leaderboards;
+import org.codenova.studymate.model.entity.StudyGroup;
+import org.codenova.studymate.model.entity.User;
+import org.codenova.studymate.model.query.UserWithAvatar;
+import org.codenova.studymate.model.vo.RankingEntry;
+import org.codenova.studymate.repository.StudyGroupRepository;
+import org.codenova.studymate.repository.StudyMemberRepository;
+import org.codenova.studymate.repository.UserRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 공부 시간 / 로그인 횟수 순위 (JSON)
+// metric : STUDY_TIME(초) / LOGIN_COUNT, size : 상위 몇 명 (최대 MAX_SIZE)
+// 응답 : { metric, top : [...], me : 내 순위 (순위표에 없으면 null) }
+@Controller
+@RequestMapping("/leaderboard")
+@AllArgsConstructor
+public class LeaderboardController {
+    private Leaderboards leaderboards;
+    private UserRepository userRepository;
+    private StudyGroupRepository studyGroupRepository;
+    private StudyMemberRepository studyMemberRepository;
+
+    private static final int MAX_SIZE = 100;
+
+    // 전체 순위
+    @ResponseBody
+    @RequestMapping(value = "", produces = "application/json")
+    public Map<String, Object> globalHandle(@RequestParam(value = "metric", defaultValue = "STUDY_TIME") Leaderboards.Metric metric,
+                                            @RequestParam(value = "size", defaultValue = "10") int size,
+                                            @RequestAttribute("user") UserWithAvatar user) {
+        List<Leaderboard.Entry> top = leaderboards.top(metric, limit(size));
+        Leaderboard.Entry me = leaderboards.rank(metric, user.getId());
+        return result(metric, top, me);
+    }
+
+    // 그룹 내 순위 (가입한 멤버만)
+    @ResponseBody
+    @RequestMapping(value = "/groups/{groupId}", produces = "application/json")
+    public Map<String, Object> groupHandle(@PathVariable("groupId") String groupId,
+                                           @RequestParam(value = "metric", defaultValue = "STUDY_TIME") Leaderboards.Metric metric,
+                                           @RequestParam(value = "size", defaultValue = "10") int size,
+                                           @RequestAttribute("user") UserWithAvatar user) {
+        StudyGroup group = studyGroupRepository.findById(groupId);
+        if (group == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        }
+        if (!studyMemberRepository.findCurrentStatusByUserIdAndGroupId(user.getId(), groupId).isJoined()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN);
+        }
+
+        List<Leaderboard.Entry> top = leaderboards.groupTop(groupId, metric, limit(size));
+        Leaderboard.Entry me = leaderboards.groupRank(groupId, metric, user.getId());
+        return result(metric, top, me);
+    }
+
+    private int limit(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    // 순위표에는 ID 와 점수만 있으므로 이름 / 아바타는 한 번의 조회로 붙인다
+    private Map<String, Object> result(Leaderboards.Metric metric, List<Leaderboard.Entry> top, Leaderboard.Entry me) {
+        List<String> ids = new ArrayList<>();
+        top.forEach(one -> ids.add(one.userId()));
+        if (me != null && !ids.contains(me.userId())) {
+            ids.add(me.userId());
+        }
+        Map<String, User> users = userRepository.findByIds(ids).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("metric", metric);
+        result.put("top", top.stream().map(one -> toRankingEntry(one, users)).toList());
+        result.put("me", me == null ? null : toRankingEntry(me, users));
+        return result;
+    }
+
+    private RankingEntry toRankingEntry(Leaderboard.Entry entry, Map<String, User> users) {
+        User user = users.get(entry.userId());
+        return RankingEntry.builder()
+                .rank(entry.rank())
+                .userId(entry.userId())
+                .userName(user == null ? null : user.getName())
+                .avatarId(user == null ? 0 : user.getAvatarId())
+                .score(entry.score())
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package org.codenova.studymate.controller;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.AllArgsConstructor;
+import org.codenova.studymate.component.GroupDissolutionWorker;
+import org.codenova.studymate.component.StudyFeedCache;
+import org.codenova.studymate.component.StudyFeedHub;
+import org.codenova.studymate.component.StudyGroupCache;
+import org.codenova.studymate.component.StudyTimeAccumulator;
+import org.codenova.studymate.metrics.PoolMetricsTracker;
+import org.codenova.studymate.metrics.SqlMetrics;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Controller
+@RequestMapping("/metrics")
+@AllArgsConstructor
+public class MetricsController {
+    private StudyGroupCache studyGroupCache;
+    private StudyFeedCache studyFeedCache;
+    private StudyFeedHub studyFeedHub;
+    private GroupDissolutionWorker groupDissolutionWorker;
+    private StudyTimeAccumulator studyTimeAccumulator;
+    private SqlMetrics sqlMetrics;
+    private PoolMetricsTracker poolMetricsTracker;
+
+    // 매퍼 구문별 지연시간 / 요청별 구문 수 / 커넥션 풀 / 캐시 지표 (Prometheus text format)
+    @ResponseBody
+    @RequestMapping(value = "", produces = "text/plain; version=0.0.4; charset=utf-8")
+    public String metricsHandle() {
+        StringBuilder out = new StringBuilder();
+        sqlMetrics.writeTo(out);
+        poolMetricsTracker.writeTo(out);
+
+        CacheStats stats = studyGroupCache.stats();
+        out.append("# TYPE studymate_study_group_cache_requests_total counter\n");
+        out.append("studymate_study_group_cache_requests_total{result=\"hit\"} ").append(stats.hitCount()).append('\n');
+        out.append("studymate_study_group_cache_requests_total{result=\"miss\"} ").append(stats.missCount()).append('\n');
+        out.append("# TYPE studymate_study_group_cache_evictions_total counter\n");
+        out.append("studymate_study_group_cache_evictions_total ").append(stats.evictionCount()).append('\n');
+        out.append("# TYPE studymate_study_group_cache_size gauge\n");
+        out.append("studymate_study_group_cache_size ").append(studyGroupCache.size()).append('\n');
+
+        CacheStats feedStats = studyFeedCache.stats();
+        out.append("# TYPE studymate_study_feed_cache_requests_total counter\n");
+        out.append("studymate_study_feed_cache_requests_total{result=\"hit\"} ").append(feedStats.hitCount()).append('\n');
+        out.append("studymate_study_feed_cache_requests_total{result=\"miss\"} ").append(feedStats.missCount()).append('\n');
+        out.append("# TYPE studymate_study_feed_cache_evictions_total counter\n");
+        out.append("studymate_study_feed_cache_evictions_total ").append(feedStats.evictionCount()).append('\n');
+        out.append("# TYPE studymate_study_feed_cache_size gauge\n");
+        out.append("studymate_study_feed_cache_size ").append(studyFeedCache.size()).append('\n');
+        out.append("# TYPE studymate_sse_connections gauge\n");
+        out.append("studymate_sse_connections ").append(studyFeedHub.connections()).append('\n');
+        out.append("# TYPE studymate_study_heartbeats_total counter\n");
+        out.append("studymate_study_heartbeats_total{result=\"accepted\"} ").append(studyTimeAccumulator.acceptedCount()).append('\n');
+        out.append("studymate_study_heartbeats_total{result=\"duplicate\"} ").append(studyTimeAccumulator.duplicateCount()).append('\n');
+        out.append("# TYPE studymate_studying_users gauge\n");
+        out.append("studymate_studying_users ").append(studyTimeAccumulator.studyingUsers()).append('\n');
+        out.append("# TYPE studymate_group_dissolutions_pending gauge\n");
+        out.append("studymate_group_dissolutions_pending ").append(groupDissolutionWorker.pendingJobs()).append('\n');
+        out.append("# TYPE studymate_group_dissolution_deleted_rows_total counter\n");
+        out.append("studymate_group_dissolution_deleted_rows_total{table=\"posts\"} ").append(groupDissolutionWorker.deletedPosts()).append('\n');
+        out.append("studymate_group_dissolution_deleted_rows_total{table=\"study_members\"} ").append(groupDissolutionWorker.deletedMembers()).append('\n');
+        return out.toString();
+    }
+
+    // 스터디 그룹 캐시 적중률 / 제거 수 / 평균 적재 시간
+    @ResponseBody
+    @RequestMapping("/study-group-cache")
+    public Map<String, Object> studyGroupCacheHandle() {
+        CacheStats stats = studyGroupCache.stats();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", studyGroupCache.size());
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRatio", stats.hitRate());
+        result.put("evictionCount", stats.evictionCount());
+        result.put("loadCount", stats.loadCount());
+        result.put("averageLoadMillis", stats.averageLoadPenalty() / 1_000_000.0);
+        return result;
+    }
+}
@@ -2,16 +2,30 @@ package org.codenova.studymate.controller;
 
 
 import lombok.AllArgsConstructor;
+import org.codenova.studymate.component.StudyTimeAccumulator;
 import org.codenova.studymate.model.entity.LoginLog;
 import org.codenova.studymate.model.entity.User;
 import org.codenova.studymate.model.query.UserWithAvatar;
 import org.codenova.studymate.repository.AvatarRepository;
 import org.codenova.studymate.repository.LoginLogRepository;
+import org.codenova.studymate.repository.UserRepository;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.SessionAttribute;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Controller
 @RequestMapping("/my")
@@ -19,8 +33,13 @@ import org.springframework.web.bind.annotation.SessionAttribute;
 public class MyController {
     private LoginLogRepository loginLogRepository;
     private AvatarRepository avatarRepository;
+    private UserRepository userRepository;
+    private StudyTimeAccumulator studyTimeAccumulator;
+
+    private static final int LOGIN_LOG_PAGE_SIZE = 20;  // 로그인 기록 한 페이지 크기
+
     @RequestMapping("/profile")
-    public String profileHandle(Model model, @SessionAttribute("user") @Nullable UserWithAvatar user) {
+    public String profileHandle(Model model, @RequestAttribute("user") @Nullable UserWithAvatar user) {
 
         if(user == null) {
             return "redirect:/auth/login";
@@ -31,6 +50,38 @@ public class MyController {
         LoginLog latestLog =loginLogRepository.findLatestByUserId(user.getId());
         model.addAttribute("latestLog",latestLog);
 
+        // 총 공부 시간 : 세션의 사용자 정보는 몇 분 늦을 수 있으므로 DB 값에 아직 반영되지 않은 시간을 더한다
+        User fresh = userRepository.findById(user.getId());
+        long studySeconds = (fresh == null ? 0 : fresh.getStudyTime()) + studyTimeAccumulator.pending(user.getId());
+        model.addAttribute("studyHours", String.format("%.1f", studySeconds / 3600.0));
+
+        // 최근 30일간 일별 로그인 횟수
+        model.addAttribute("dailyStats", loginLogRepository.findDailyStatsByUserId(user.getId(), LocalDate.now().minusDays(30)));
+
         return "my/profile";
     }
+
+    // 로그인 기록 페이지 조회 (JSON)
+    // (before, beforeId) 이전의 기록을 최신순으로 한 페이지씩 반환, 커서는 이전 페이지 마지막 기록의 loginAt / id
+    @ResponseBody
+    @RequestMapping("/login-logs")
+    public List<LoginLog> loginLogsHandle(@RequestAttribute("user") UserWithAvatar user,
+                                          @RequestParam("before") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Optional<LocalDateTime> before,
+                                          @RequestParam("beforeId") Optional<Integer> beforeId) {
+        if (before.isPresent() != beforeId.isPresent()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "before and beforeId must be given together");
+        }
+        return loginLogRepository.findPageByUserId(user.getId(), before.orElse(null), beforeId.orElse(null), LOGIN_LOG_PAGE_SIZE);
+    }
+
+    // 공부 중 하트비트 (30초마다)
+    // beat 는 클라이언트가 보낼 때마다 늘리는 값(보낸 시각 ms), 같은 beat 를 다시 보내면 (다른 인스턴스로 가도) 시간이 늘지 않는다
+    // duplicate / creditedMillis 는 이 인스턴스가 본 하트비트 기준 (다른 인스턴스에서 받은 beat 는 반영할 때 DB 에서 걸러진다)
+    @ResponseBody
+    @RequestMapping(value = "/study-heartbeat", method = RequestMethod.POST, produces = "application/json")
+    public Map<String, Object> studyHeartbeatHandle(@RequestAttribute("user") UserWithAvatar user,
+                                                    @RequestParam("beat") long beat) {
+        long creditedMillis = studyTimeAccumulator.heartbeat(user.getId(), beat);
+        return Map.of("duplicate", creditedMillis < 0, "creditedMillis", Math.max(creditedMillis, 0));
+    }
 }
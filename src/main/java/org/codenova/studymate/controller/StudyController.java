@@ -1,18 +1,36 @@
 package org.codenova.studymate.controller;
 
 import lombok.AllArgsConstructor;
+import org.codenova.studymate.component.ContentVersions;
+import org.codenova.studymate.component.HandlerTaskExecutor;
+import org.codenova.studymate.component.PostFeedAssembler;
+import org.codenova.studymate.component.StudyFeedCache;
+import org.codenova.studymate.component.StudyFeedHub;
+import org.codenova.studymate.component.StudyGroupSearchPager;
 import org.codenova.studymate.model.entity.*;
+import org.codenova.studymate.model.query.FeelingStats;
+import org.codenova.studymate.model.query.PendingApplicant;
+import org.codenova.studymate.model.query.PostWithDetail;
 import org.codenova.studymate.model.query.UserWithAvatar;
+import org.codenova.studymate.model.vo.MembershipStatus;
 import org.codenova.studymate.model.vo.PostMeta;
+import org.codenova.studymate.model.vo.PostPage;
+import org.codenova.studymate.model.vo.ReactionUpdate;
 import org.codenova.studymate.model.vo.StudyGroupWithCreator;
 import org.codenova.studymate.repository.*;
 import org.ocpsoft.prettytime.PrettyTime;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Controller;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
 
 @Controller  // Spring MVC 컨트롤러로 등록
@@ -23,8 +41,17 @@ public class StudyController {
     private StudyMemberRepository studyMemberRepository;  // 스터디 멤버 관련 DB 접근 객체
     private UserRepository userRepository;  // 사용자 관련 DB 접근 객체
     private PostRepository postRepository;  // 게시글 관련 DB 접근 객체
-    private AvatarRepository avatarRepository;  // 아바타 이미지 관련 DB 접근 객체
+    private PostFeedAssembler postFeedAssembler;  // 게시글 화면 변환
     private PostReactionRepository postReactionRepository;  // 게시글 반응 관련 DB 접근 객체
+    private StudyFeedCache studyFeedCache;  // 렌더링된 게시글 영역 캐시
+    private ContentVersions contentVersions;  // 화면 버전 (조각 캐시 / ETag)
+    private StudyFeedHub studyFeedHub;  // 그룹별 실시간 이벤트 (SSE)
+    private GroupDissolutionRepository groupDissolutionRepository;  // 그룹 해산 작업
+    private StudyGroupSearchPager studyGroupSearchPager;  // 검색 결과 페이지 조회
+    private HandlerTaskExecutor handlerTaskExecutor;  // 핸들러 본문 실행 (가상 스레드 / 요청 스레드)
+
+    private static final int FEED_PAGE_SIZE = 20;  // 게시글 한 페이지 크기
+    private static final int MAX_BULK_TARGETS = 500;  // 일괄 승인 / 거절 한 번에 처리하는 신청 수
 
     // =======================================================================================
     // 스터디 그룹 생성 핸들러
@@ -41,7 +68,7 @@ public class StudyController {
     @Transactional
     @RequestMapping("/create/verify")
     public String createVerifyHandle(@ModelAttribute StudyGroup studyGroup,
-                                     @SessionAttribute("user") UserWithAvatar user) {
+                                     @RequestAttribute("user") UserWithAvatar user) {
 
         // 랜덤 ID 생성 (UUID의 마지막 8자리 사용)
         String randomId = UUID.randomUUID().toString().substring(24);
@@ -64,6 +91,7 @@ public class StudyController {
 
         // 그룹 멤버 수 증가
         studyGroupRepository.addMemberCountById(studyGroup.getId());
+        contentVersions.bumpDashboard(user.getId());
 
         // 생성된 그룹 상세 페이지로 이동
         return "redirect:/study/" + randomId;
@@ -72,8 +100,32 @@ public class StudyController {
     // =======================================================================================
     // 스터디 그룹 검색 핸들러
     // 사용자 입력 검색어를 바탕으로 그룹을 찾아 결과 반환
+    // HandlerTaskExecutor 에서 처리 (studymate.virtual-threads=true 면 가상 스레드, 아니면 비동기 처리 없이 요청 스레드에서 바로)
+    // 검색 결과(순서 / 개수)와 현재 페이지 그룹들의 멤버 수가 같으면 그룹 / 생성자 조회 없이 304
     @RequestMapping("/search")
-    public String searchHandle(@RequestParam("word") Optional<String> word, Model model) {
+    public Object searchHandle(@RequestParam("word") Optional<String> word,
+                               @RequestParam("page") Optional<Integer> page, Model model,
+                               @RequestAttribute("user") UserWithAvatar user, ServletWebRequest webRequest) throws Exception {
+        if (word.isPresent()) {
+            List<String> ids = studyGroupRepository.searchIds(word.get());
+            int pageValue = Math.max(page.orElse(1), 1);
+            List<String> pageIds = studyGroupSearchPager.pageIds(ids, pageValue);
+
+            List<Integer> memberCounts = new ArrayList<>();
+            for (String one : pageIds) {
+                StudyGroup group = studyGroupRepository.findById(one);
+                memberCounts.add(group == null ? -1 : group.getMemberCount());
+            }
+            String etag = contentVersions.etag("search", word.get(), pageValue, ids.size(), pageIds, memberCounts,
+                    user.getAvatarUrl());
+            if (contentVersions.checkNotModified(webRequest, etag, -1)) {
+                return null;
+            }
+        }
+        return handlerTaskExecutor.handle(() -> search(word, page, model));
+    }
+
+    private String search(Optional<String> word, Optional<Integer> page, Model model) {
         if (word.isEmpty()) {     // 검색어가 없으면
             return "redirect:/";  // 홈으로 이동
         }
@@ -81,22 +133,21 @@ public class StudyController {
         // 검색어 가져오기
         String wordValue = word.get();
 
-        // 그룹 이름 또는 목표에 검색어가 포함된 그룹 목록 조회
-        List<StudyGroup> result = studyGroupRepository.findByNameLikeOrGoalLike("%" + wordValue + "%");
+        // 메모리 색인에서 그룹 이름 또는 목표에 검색어가 포함된 그룹 ID 를 관련도 순으로 조회
+        List<String> ids = studyGroupRepository.searchIds(wordValue);
 
-        // 검색 결과를 StudyGroupWithCreator 객체로 변환
-        List<StudyGroupWithCreator> convertedResult = new ArrayList<>();
+        // 요청한 페이지에 해당하는 그룹만 DB 에서 조회
+        int pageValue = Math.max(page.orElse(1), 1);
+        List<String> pageIds = studyGroupSearchPager.pageIds(ids, pageValue);
 
-        for (StudyGroup one : result) {
-            User found = userRepository.findById(one.getCreatorId());  // 생성자 정보 찾기
-            StudyGroupWithCreator c = StudyGroupWithCreator.builder().group(one).creator(found).build();
-            convertedResult.add(c);
-        }
+        // 그룹과 생성자 정보를 한 번의 조인으로 조회 (페이지 크기만큼만 조회, 관련도 순서 유지)
+        List<StudyGroupWithCreator> convertedResult = studyGroupSearchPager.findPage(pageIds);
 
         // 모델에 검색 결과 추가
-        System.out.println("search count : " + result.size());
-        model.addAttribute("count", convertedResult.size());  // 검색 결과 개수 추가
-        model.addAttribute("result", convertedResult);  // 검색 결과 추가
+        model.addAttribute("count", ids.size());  // 전체 검색 결과 개수 추가
+        model.addAttribute("result", convertedResult);  // 현재 페이지 검색 결과 추가
+        model.addAttribute("page", pageValue);  // 현재 페이지
+        model.addAttribute("lastPage", studyGroupSearchPager.lastPage(ids.size()));  // 마지막 페이지
 
         // 검색 결과 페이지 반환
         return "study/search";
@@ -105,8 +156,32 @@ public class StudyController {
     // =======================================================================================
     // 스터디 그룹 상세 핸들러
     // 사용자가 특정 그룹을 조회할 때, 현재 로그인한 사용자의 가입 상태를 함께 확인하여 보여줌
+    // HandlerTaskExecutor 에서 처리 (studymate.virtual-threads=true 면 가상 스레드, 아니면 비동기 처리 없이 요청 스레드에서 바로)
+    // 그룹 버전 / 최근 글 시각 / 멤버 수 / 가입 상태가 같으면 게시글 조회와 렌더링 없이 304
     @RequestMapping("/{id}")
-    public String viewHandle(@PathVariable("id") String id, Model model, @SessionAttribute("user") UserWithAvatar user) {
+    public Object viewHandle(@PathVariable("id") String id, Model model, @RequestAttribute("user") UserWithAvatar user,
+                             ServletWebRequest webRequest) throws Exception {
+        StudyGroup group = studyGroupRepository.findById(id);
+        if (group != null) {
+            MembershipStatus status = studyMemberRepository.findStatusByUserIdAndGroupId(user.getId(), id);
+            ContentVersions.Stamp stamp = contentVersions.group(id);
+            LocalDateTime latestWroteAt = postRepository.findLatestWroteAtByGroupId(id);
+
+            // 게시글의 상대 시간("3분 전")은 화면에서 작성 시각으로 다시 계산하므로 ETag 에 넣지 않는다
+            String etag = contentVersions.etag("study", id, stamp.version(), latestWroteAt, group.getMemberCount(),
+                    group.getName(), group.getType(), status, user.getAvatarUrl());
+            long lastModified = stamp.changedAt();
+            if (latestWroteAt != null) {
+                lastModified = Math.max(lastModified, latestWroteAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            }
+            if (contentVersions.checkNotModified(webRequest, etag, lastModified)) {
+                return null;
+            }
+        }
+        return handlerTaskExecutor.handle(() -> view(id, model, user));
+    }
+
+    private String view(String id, Model model, UserWithAvatar user) {
 
         // 그룹 정보 조회
         // 데이터베이스에서 해당 그룹 ID에 해당하는 그룹 정보를 가져옴
@@ -115,81 +190,89 @@ public class StudyController {
             return "redirect:/";  // 홈으로 리디렉션
         }
 
-        // 현재 로그인한 사용자의 가입 상태 확인
-        Map<String, Object> map = new HashMap<>();
-        map.put("groupId", id);   // 조회할 그룹 ID
-        map.put("userId", user.getId());   // 현재 로그인한 사용자 ID
-        StudyMember status = studyMemberRepository.findByUserIdAndGroupId(map);
-
-        // 사용자가 가입하지 않은 경우
-        if (status == null) {
-            model.addAttribute("status", "NOT_JOINED");  // 가입하지 않음
-            // 사용자가 가입 신청했지만 아직 승인이 나지 않은 경우
-        } else if (status.getJoinedAt() == null) {
-            model.addAttribute("status", "PENDING");  // 승인 대기 중
-            // 사용자가 일반 멤버로 가입된 경우
-        } else if (status.getRole().equals("멤버")) {
-            model.addAttribute("status", "MEMBER");  // 일반 멤버
-            // 사용자가 그룹 리더인 경우
-        } else {
-            model.addAttribute("status", "LEADER");  // 리더
+        // 현재 로그인한 사용자의 가입 상태 확인 (NOT_JOINED / PENDING / MEMBER / LEADER)
+        MembershipStatus status = studyMemberRepository.findCurrentStatusByUserIdAndGroupId(user.getId(), id);
+        model.addAttribute("status", status.name());
+
+        // 화면을 실제로 그릴 때만 대시보드의 안 읽은 글 수를 지운다 (304 응답은 DB 에 쓰지 않음)
+        if (status.isJoined() && studyMemberRepository.updateLastSeenByUserIdAndGroupId(user.getId(), id) > 0) {
+            contentVersions.bumpDashboard(user.getId());
         }
 
         // 그룹 정보를 모델에 추가하고 페이지 반환
         model.addAttribute("group", group);
 
-        // 해당 그룹의 게시글 목록 조회
-
-        List<Post> posts = postRepository.findByGroupId(id);
-        // 게시글 정보를 가공하여 저장할 리스트 생성
-        List<PostMeta> postMetas = new ArrayList<>();
-
-        // 작성 시간을 '몇 분 전', '몇 시간 전'과 같이 보기 좋게 변환
-        PrettyTime prettyTime = new PrettyTime();
-        for (Post post : posts) {
+        // 그룹 버전과 가입 상태가 같은 렌더링 결과가 있으면 게시글 조회 / 렌더링 없이 그대로 사용
+        StudyFeedCache.Key feedKey = studyFeedCache.key(id, status);
+        String feedHtml = studyFeedCache.get(feedKey);
+        if (feedHtml != null) {
+            model.addAttribute("feedHtml", feedHtml);
+        } else {
+            // 해당 그룹의 게시글 첫 페이지 조회 (최신순), 비공개 그룹은 멤버에게만
+            PostPage page = canReadPosts(group, status) ? loadPostPage(id, null)
+                    : PostPage.builder().posts(List.of()).build();
+
+            // 변환된 게시글 정보와 다음 페이지 커서를 모델에 추가, 렌더링 결과는 feedSlot 으로 캐시에 저장
+            model.addAttribute("postMetas", page.getPosts());
+            model.addAttribute("nextCursor", page.getNextCursor());
+            model.addAttribute("feedSlot", studyFeedCache.slot(feedKey));
+        }
 
-            PostMeta cvt = PostMeta.builder()
-                    .id(post.getId())   // 게시글 ID
-                    .content(post.getContent())   // 게시글 내용
-                    .writerName(userRepository.findById(post.getWriterId()).getName())   // 작성자 이름
-                    .writerAvatar(avatarRepository.findById(userRepository.findById(post.getWriterId()).getAvatarId()).getImageUrl())    // 작성자 프로필 이미지
-                    .time(prettyTime.format(post.getWroteAt()))   // 변환된 시간
-                    .reactions(postReactionRepository.countFeelingByPostId(post.getId()))   // 게시글에 대한 반응 정보
-                    .build();
+        // "study/view" 페이지를 반환
+        return "study/view";
+    }
 
-            // 변환된 정보를 리스트에 추가
-            postMetas.add(cvt);
+    // =======================================================================================
+    // 이전 게시글 더 불러오기 (JSON)
+    // before 커서보다 오래된 게시글을 한 페이지만 반환
+    // 그룹 화면과 같은 조건 : 없는 그룹은 404, 비공개 그룹은 멤버가 아니면 403, 잘못된 커서는 400
+    @ResponseBody
+    @RequestMapping("/{groupId}/posts")
+    public PostPage postsHandle(@PathVariable("groupId") String groupId,
+                                @RequestParam("before") Optional<String> before,
+                                @RequestAttribute("user") UserWithAvatar user) {
+        StudyGroup group = studyGroupRepository.findById(groupId);
+        if (group == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        }
+        if (!canReadPosts(group, studyMemberRepository.findCurrentStatusByUserIdAndGroupId(user.getId(), groupId))) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN);
+        }
+        try {
+            return loadPostPage(groupId, before.orElse(null));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
         }
+    }
 
-        // 변환된 게시글 정보를 모델에 추가
-        model.addAttribute("postMetas", postMetas);
+    // 공개 그룹의 글은 누구나, 비공개 그룹의 글은 가입한 멤버만 읽는다
+    private boolean canReadPosts(StudyGroup group, MembershipStatus status) {
+        return group.getType().equals("공개") || status.isJoined();
+    }
 
-        // "study/view" 페이지를 반환
-        return "study/view";
+    // =======================================================================================
+    // 그룹 실시간 이벤트 (Server-Sent Events)
+    // post : 새 글(PostMeta), reactions : 감정 통계 변경(ReactionUpdate), 가입한 멤버만 연결할 수 있다
+    @RequestMapping(value = "/{groupId}/events", produces = "text/event-stream")
+    public SseEmitter eventsHandle(@PathVariable("groupId") String groupId, @RequestAttribute("user") UserWithAvatar user) {
+        if (!studyMemberRepository.findCurrentStatusByUserIdAndGroupId(user.getId(), groupId).isJoined()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN);
+        }
+        SseEmitter emitter = studyFeedHub.subscribe(groupId);
+        if (emitter == null) {   // 연결 수 한도 초과, 브라우저는 잠시 후 다시 연결한다
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return emitter;
     }
 
     // =======================================================================================
     // 스터디 그룹 가입 요청 핸들러
     @Transactional
     @RequestMapping("/{id}/join")
-    public String joinHandle(@PathVariable("id") String id, @SessionAttribute("user") UserWithAvatar user) {
-
-        // 이미 가입한 그룹인지 여부를 확인할 변수
-        boolean exist = false;
+    public String joinHandle(@PathVariable("id") String id, @RequestAttribute("user") UserWithAvatar user) {
 
-        // 사용자가 가입한 모든 그룹 목록을 가져옴
-        List<StudyMember> list = studyMemberRepository.findByUserId(user.getId());
-
-        // 사용자가 이미 가입한 그룹인지 확인
-        for (StudyMember one : list) {
-            if (one.getGroupId().equals(id)) {   // 현재 그룹 ID와 일치하는지 검사
-                exist = true;   // 이미 가입한 경우 exist = true 설정
-                break;   // 반복문 중단
-            }
-        }
-
-        // 가입한 적이 없는 경우에만 가입 요청 처리
-        if (!exist) {
+        // 이미 가입(신청)한 그룹이면 아무것도 하지 않음
+        if (studyMemberRepository.findCurrentStatusByUserIdAndGroupId(user.getId(), id) == MembershipStatus.NOT_JOINED) {
             // 새 멤버 객체 생성 (기본 역할: "멤버")
             StudyMember member = StudyMember.builder().
                     userId(user.getId()).groupId(id).role("멤버").build();
@@ -198,13 +281,17 @@ public class StudyController {
             StudyGroup group = studyGroupRepository.findById(id);
             // 그룹이 공개 상태라면
             if (group.getType().equals("공개")) {
-                studyMemberRepository.createApproved(member); // 바로 승인된 멤버로 등록
-                studyGroupRepository.addMemberCountById(id); // 그룹 멤버 수 증가
+                // 바로 승인된 멤버로 등록, 동시에 들어온 중복 요청은 무시되므로 실제로 등록된 경우에만 멤버 수 증가
+                if (studyMemberRepository.createApproved(member) > 0) {
+                    studyGroupRepository.addMemberCountById(id); // 그룹 멤버 수 증가
+                }
             }
             // 그룹이 비공개 상태라면
             else {
                 studyMemberRepository.createPending(member); // 승인 대기 상태로 저장
             }
+            contentVersions.bumpGroup(id);
+            contentVersions.bumpDashboard(user.getId());
         }
 
         // 가입 요청 후, 해당 그룹 페이지로 이동
@@ -213,27 +300,31 @@ public class StudyController {
 
 
     // 탈퇴 요청 처리 핸들러
+    @Transactional
     @RequestMapping("/{groupId}/leave")
-    public String leaveHandle(@PathVariable("groupId") String groupId, @SessionAttribute("user") UserWithAvatar user, Model model) {
+    public String leaveHandle(@PathVariable("groupId") String groupId, @RequestAttribute("user") UserWithAvatar user, Model model) {
         String userId = user.getId();
-        Map map = Map.of("groupId", groupId, "userId", userId);
 
-        StudyMember found = studyMemberRepository.findByUserIdAndGroupId(map);
-        studyMemberRepository.deleteById(found.getId());
-
-        studyGroupRepository.subtractMemberCountById(groupId);
+        // 일반 멤버만 탈퇴 가능 (리더는 해산), 실제로 삭제된 경우에만 멤버 수 감소
+        if (studyMemberRepository.findCurrentStatusByUserIdAndGroupId(userId, groupId) == MembershipStatus.MEMBER
+                && studyMemberRepository.deleteByUserIdAndGroupId(userId, groupId, false) > 0) {
+            studyGroupRepository.subtractMemberCountById(groupId);
+            contentVersions.bumpGroup(groupId);
+            contentVersions.bumpDashboard(userId);
+        }
         return "redirect:/";
     }
 
     // 신청 철회 요청 핸들러
+    @Transactional
     @RequestMapping("/{groupId}/cancel")
-    public String cancelHandle(@PathVariable("groupId") String groupId, @SessionAttribute("user") UserWithAvatar user, Model model) {
+    public String cancelHandle(@PathVariable("groupId") String groupId, @RequestAttribute("user") UserWithAvatar user, Model model) {
         String userId = user.getId();
-        Map map = Map.of("groupId", groupId, "userId", userId);
 
-        StudyMember found = studyMemberRepository.findByUserIdAndGroupId(map);
-        if (found != null && found.getJoinedAt() == null && found.getRole().equals("멤버")) {
-            studyMemberRepository.deleteById(found.getId());
+        // 승인 대기 중인 신청만 삭제
+        if (studyMemberRepository.findCurrentStatusByUserIdAndGroupId(userId, groupId) == MembershipStatus.PENDING
+                && studyMemberRepository.deleteByUserIdAndGroupId(userId, groupId, true) > 0) {
+            contentVersions.bumpDashboard(userId);
         }
 
         return "redirect:/study/" + groupId;
@@ -241,80 +332,205 @@ public class StudyController {
 
     @Transactional
     @RequestMapping("/{groupId}/remove")
-    public String removeHandle(@PathVariable("groupId") String groupId, @SessionAttribute("user") UserWithAvatar user) {
+    public String removeHandle(@PathVariable("groupId") String groupId, @RequestAttribute("user") UserWithAvatar user) {
         StudyGroup studyGroup = studyGroupRepository.findById(groupId);
 
         if (studyGroup != null && studyGroup.getCreatorId().equals(user.getId())) {
-            studyMemberRepository.deleteByGroupId(groupId);
+            // 그룹 행만 지우고 게시글 / 감정 / 멤버는 GroupDissolutionWorker 가 나눠서 지운다
             studyGroupRepository.deleteById(groupId);
+            groupDissolutionRepository.create(groupId, studyGroup.getCreatorId());
+            contentVersions.bumpGroup(groupId);
+            contentVersions.bumpAllDashboards();   // 멤버 전원의 대시보드에서 그룹이 사라짐
             return "redirect:/";
         } else {
             return "redirect:/study/" + groupId;
         }
     }
 
+    @Transactional
     @RequestMapping("/{groupId}/approve")
     public String approveHandle(@PathVariable("groupId") String groupId,
                                 @RequestParam("targetUserId") String targetUserId,
-                                @SessionAttribute("user") UserWithAvatar user) {
+                                @RequestAttribute("user") UserWithAvatar user) {
 
         StudyGroup studyGroup = studyGroupRepository.findById(groupId);
 
 
         if (studyGroup != null && studyGroup.getCreatorId().equals(user.getId())) {
-            StudyMember found = studyMemberRepository.findByUserIdAndGroupId(
-                    Map.of("userId", targetUserId, "groupId", groupId)
-            );
-
-            if (found != null) {
-                studyMemberRepository.updateJoinedAtById(found.getId());
+            // 승인 대기 중인 경우에만 승인되므로 중복 승인 요청은 멤버 수를 늘리지 않음
+            if (studyMemberRepository.updateJoinedAtByUserIdAndGroupId(targetUserId, groupId) > 0) {
                 studyGroupRepository.addMemberCountById(groupId);
+                contentVersions.bumpGroup(groupId);
+                contentVersions.bumpDashboard(targetUserId);
             }
         }
 
         return "redirect:/study/" + groupId;
     }
 
+    // =======================================================================================
+    // 승인 대기 목록 (그룹장만, JSON)
+    @ResponseBody
+    @RequestMapping(value = "/{groupId}/pending", produces = "application/json")
+    public List<PendingApplicant> pendingHandle(@PathVariable("groupId") String groupId,
+                                                @RequestAttribute("user") UserWithAvatar user) {
+        requireCreator(groupId, user);
+        return studyMemberRepository.findPendingByGroupId(groupId);
+    }
+
+    // 일괄 승인 : 신청 전체를 한 번의 배치 트랜잭션으로 처리하고, 멤버 수는 승인된 인원만큼 한 번에 반영
+    // 멤버 수 증감을 같은 트랜잭션 안에서 기록해야 멤버 수 보정(MemberCountBuffer.reconcile)이 이 승인을 가려낼 수 있다
+    @Transactional
+    @ResponseBody
+    @RequestMapping(value = "/{groupId}/pending/approve", method = RequestMethod.POST, produces = "application/json")
+    public Map<String, Object> approveAllHandle(@PathVariable("groupId") String groupId,
+                                                @RequestParam(value = "targetUserId", required = false) List<String> targetUserIds,
+                                                @RequestAttribute("user") UserWithAvatar user) {
+        requireCreator(groupId, user);
+
+        List<String> approved = studyMemberRepository.approveAll(groupId, limitTargets(targetUserIds));
+        if (!approved.isEmpty()) {
+            studyGroupRepository.addMemberCountById(groupId, approved.size());
+            contentVersions.bumpGroup(groupId);
+            approved.forEach(contentVersions::bumpDashboard);
+        }
+
+        return Map.of("approved", approved);
+    }
+
+    // 일괄 거절 : 승인 대기 중인 신청만 삭제 (이미 가입된 멤버는 건드리지 않음)
+    @ResponseBody
+    @RequestMapping(value = "/{groupId}/pending/reject", method = RequestMethod.POST, produces = "application/json")
+    public Map<String, Object> rejectAllHandle(@PathVariable("groupId") String groupId,
+                                               @RequestParam(value = "targetUserId", required = false) List<String> targetUserIds,
+                                               @RequestAttribute("user") UserWithAvatar user) {
+        requireCreator(groupId, user);
+
+        List<String> rejected = studyMemberRepository.rejectAll(groupId, limitTargets(targetUserIds));
+        rejected.forEach(contentVersions::bumpDashboard);
+
+        return Map.of("rejected", rejected);
+    }
+
+    private void requireCreator(String groupId, UserWithAvatar user) {
+        StudyGroup studyGroup = studyGroupRepository.findById(groupId);
+        if (studyGroup == null || !studyGroup.getCreatorId().equals(user.getId())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN);
+        }
+    }
+
+    // 한 요청에서 처리하는 신청 수 제한 (배치 한 번, 트랜잭션 하나가 너무 길어지지 않도록)
+    private List<String> limitTargets(List<String> targetUserIds) {
+        if (targetUserIds == null) {
+            return List.of();
+        }
+        if (targetUserIds.size() > MAX_BULK_TARGETS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "too many targets");
+        }
+        return targetUserIds;
+    }
+
     // 그룹내 새글 등록
     @RequestMapping("/{groupId}/post")
     public String postHandle(@PathVariable("groupId") String id,
                              @ModelAttribute Post post,
-                             @SessionAttribute("user") UserWithAvatar user) {
+                             @RequestAttribute("user") UserWithAvatar user) {
 
-        post.setWriterId(user.getId());
-        post.setWroteAt(LocalDateTime.now());
+        writePost(id, post, user);
 
-        postRepository.create(post);
+        return "redirect:/study/" + id;
+    }
 
+    // 그룹내 새글 등록 (fetch 요청, Accept: application/json)
+    // 화면은 다시 읽지 않고, 새 글은 이벤트(SSE)로 그룹 화면 전체에 추가된다
+    @ResponseBody
+    @RequestMapping(value = "/{groupId}/post", produces = "application/json")
+    public PostMeta postJsonHandle(@PathVariable("groupId") String id,
+                                   @ModelAttribute Post post,
+                                   @RequestAttribute("user") UserWithAvatar user) {
+        return writePost(id, post, user);
+    }
 
-        return "redirect:/study/" + id;
+    private PostMeta writePost(String groupId, Post post, UserWithAvatar user) {
+        post.setGroupId(groupId);   // 글 수 / 최근 활동은 경로의 그룹에 반영
+        post.setWriterId(user.getId());
+        post.setWroteAt(LocalDateTime.now());
+
+        // 그룹 확인은 insert 안에서 DB 로 (다른 노드에서 해산된 그룹에 글이 남지 않도록), 없으면 404
+        if (postRepository.create(post) == 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        }
+        contentVersions.bumpGroup(groupId);
+
+        // 방금 쓴 글이므로 작성자 정보는 로그인 사용자, 감정은 아직 없음
+        PostWithDetail detail = new PostWithDetail();
+        detail.setId(post.getId());
+        detail.setContent(post.getContent());
+        detail.setWroteAt(post.getWroteAt());
+        detail.setWriterName(user.getName());
+        detail.setWriterAvatarId(user.getAvatarId());
+        detail.setReactions(List.of());
+        PostMeta postMeta = postFeedAssembler.toPostMeta(detail, new PrettyTime());
+
+        studyFeedHub.publish(groupId, "post", () -> postMeta);
+        return postMeta;
     }
 
     // =======================================================================================
     // 글에 감정 남기기 요청 처리 핸들
     @RequestMapping("/{groupId}/post/{postId}/reaction")
-    public String postReactionHandle(@ModelAttribute PostReaction postReaction, @SessionAttribute("user") UserWithAvatar user) {
+    public String postReactionHandle(@ModelAttribute PostReaction postReaction, @RequestAttribute("user") UserWithAvatar user) {
 
+        react(postReaction, user);
 
-        // 사용자가 해당 게시글에 남긴 감정이 있는지 확인
-        PostReaction found =
-                postReactionRepository.findByWriterIdAndPostId(Map.of("writerId", user.getId(), "postId", postReaction.getPostId()));
+        return "redirect:/study/" + postReaction.getGroupId();
+    }
 
-        if (found != null) {   // 이미 감정이 남겨져 있을 경우
-            postReactionRepository.deleteById(found.getId());    // 기존 감정을 삭제
-        }
+    // 글에 감정 남기기 (fetch 요청, Accept: application/json)
+    // 화면은 다시 읽지 않고 응답으로 받은 감정 통계로 해당 글만 갱신한다, 같은 통계가 이벤트(SSE)로도 전달된다
+    @ResponseBody
+    @RequestMapping(value = "/{groupId}/post/{postId}/reaction", produces = "application/json")
+    public ReactionUpdate postReactionJsonHandle(@ModelAttribute PostReaction postReaction,
+                                                 @RequestAttribute("user") UserWithAvatar user) {
+        return react(postReaction, user);
+    }
 
-        // 그렇지 않으면 새 감정 추가
+    // 없으면 추가 / 다른 감정이면 변경 / 같은 감정이면 그대로를 한 트랜잭션으로 처리 (PostReactionRepository.react)
+    private ReactionUpdate react(PostReaction postReaction, UserWithAvatar user) {
         postReaction.setWriterId(user.getId());   // 현재 로그인한 사용자의 ID를 설정
-        postReactionRepository.create(postReaction);    // 새로운 감정을 데이터베이스에 저장
 
-        return "redirect:/study/" + postReaction.getGroupId();
+        List<FeelingStats> reactions;
+        try {
+            reactions = postReactionRepository.react(postReaction);
+        } catch (PessimisticLockingFailureException e) {
+            // 같은 사용자의 첫 감정 요청이 동시에 들어와 교착으로 롤백된 경우 한 번 더 시도
+            reactions = postReactionRepository.react(postReaction);
+        }
+        if (reactions == null) {   // 게시글이 경로의 그룹에 없거나 그룹이 해산됨
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        }
+        contentVersions.bumpGroup(postReaction.getGroupId());
+
+        // 커밋된 뒤의 통계를 응답과 그룹 화면에 함께 전달 (다시 조회하지 않음)
+        ReactionUpdate update = new ReactionUpdate(postReaction.getPostId(), reactions);
+        studyFeedHub.publish(postReaction.getGroupId(), "reactions", () -> update);
+        return update;
+    }
+
+    // =======================================================================================
+    // 게시글 한 페이지 조회
+    // (wrote_at, id) 키셋 커서를 사용하므로 그룹의 게시글 수와 무관하게 비용이 일정함
+    private PostPage loadPostPage(String groupId, String before) {
+        List<PostWithDetail> posts = postRepository.findPageWithDetailByGroupId(
+                postFeedAssembler.pageParams(groupId, before, FEED_PAGE_SIZE));
+
+        return postFeedAssembler.assemble(posts, FEED_PAGE_SIZE);
     }
 
     // =======================================================================================
     // 아바타 이미지 변경
     @ModelAttribute("user")
-    public UserWithAvatar addUser(@SessionAttribute("user") UserWithAvatar user) {
+    public UserWithAvatar addUser(@RequestAttribute("user") UserWithAvatar user) {
         System.out.println("addUser...");
         return user;
     }
@@ -1,36 +1,39 @@
 package org.codenova.studymate.controller;
 
-import jakarta.servlet.http.HttpSession;
 import lombok.AllArgsConstructor;
-import org.codenova.studymate.model.entity.Avatar;
-import org.codenova.studymate.model.entity.StudyMember;
-import org.codenova.studymate.model.entity.User;
+import org.codenova.studymate.component.ContentVersions;
 import org.codenova.studymate.model.query.UserWithAvatar;
-import org.codenova.studymate.repository.AvatarRepository;
 import org.codenova.studymate.repository.StudyMemberRepository;
-import org.codenova.studymate.repository.UserRepository;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.SessionAttribute;
-
-import java.util.List;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @Controller
 @AllArgsConstructor
 public class WelcomeController {
-    private AvatarRepository avatarRepository;
     private StudyMemberRepository studyMemberRepository;
+    private ContentVersions contentVersions;
 
     @RequestMapping({"/", "/index"})
-    public String indexHandle(@SessionAttribute("user") @Nullable UserWithAvatar user, Model model) {
+    public String indexHandle(@RequestAttribute("user") @Nullable UserWithAvatar user, Model model,
+                              ServletWebRequest webRequest) {
         if (user == null) {
             return "index";
 
         } else {
+            // 가입 / 탈퇴 / 승인 / 해산 / 가입한 그룹의 새 글 / 안 읽은 글 확인이 없었으면 내 스터디 목록 조회 없이 304
+            ContentVersions.Stamp stamp = contentVersions.dashboard(user.getId());
+            String etag = contentVersions.etag("index", user.getId(), stamp.version(), user.getAvatarUrl());
+            if (contentVersions.checkNotModified(webRequest, etag, stamp.changedAt())) {
+                return null;
+            }
+
             model.addAttribute("user", user);
 
+            // 내 스터디 목록(안 읽은 글 수 / 최근 활동 포함)은 가입한 그룹 수와 무관하게 한 번의 조회
             var studyList = studyMemberRepository.findWithGroupDetailByUserId(user.getId());
 
             model.addAttribute("studyList", studyList);
@@ -0,0 +1,72 @@
+package org.codenova.studymate.metrics;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Hikari 커넥션 풀 상태 (활성 / 유휴 / 대기 스레드)와 커넥션 획득 대기시간 / 사용시간 집계
+// app-servlet.xml 의 HikariDataSource metricsTrackerFactory 로 등록되어 있다
+@Component
+public class PoolMetricsTracker implements MetricsTrackerFactory {
+
+    private static final double[] SECONDS =
+            {0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+
+    private final BucketHistogram acquire = new BucketHistogram(SECONDS);
+    private final BucketHistogram usage = new BucketHistogram(SECONDS);
+    private final LongAdder timeouts = new LongAdder();
+
+    private volatile String poolName = "";
+    private volatile PoolStats poolStats;
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolName = poolName;
+        this.poolStats = poolStats;
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquire.record(elapsedAcquiredNanos / 1_000_000_000.0);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                usage.record(elapsedBorrowedMillis / 1_000.0);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeouts.increment();
+            }
+        };
+    }
+
+    public void writeTo(StringBuilder out) {
+        PoolStats stats = poolStats;
+        if (stats == null) {
+            return;
+        }
+        String labels = SqlMetrics.label("pool", poolName);
+
+        out.append("# TYPE studymate_db_pool_connections gauge\n");
+        out.append("studymate_db_pool_connections{").append(labels).append(",state=\"active\"} ").append(stats.getActiveConnections()).append('\n');
+        out.append("studymate_db_pool_connections{").append(labels).append(",state=\"idle\"} ").append(stats.getIdleConnections()).append('\n');
+        out.append("studymate_db_pool_connections{").append(labels).append(",state=\"total\"} ").append(stats.getTotalConnections()).append('\n');
+        out.append("# TYPE studymate_db_pool_pending_threads gauge\n");
+        out.append("studymate_db_pool_pending_threads{").append(labels).append("} ").append(stats.getPendingThreads()).append('\n');
+        out.append("# TYPE studymate_db_pool_max_connections gauge\n");
+        out.append("studymate_db_pool_max_connections{").append(labels).append("} ").append(stats.getMaxConnections()).append('\n');
+
+        out.append("# HELP studymate_db_pool_acquire_seconds Time spent waiting for a pooled connection\n");
+        out.append("# TYPE studymate_db_pool_acquire_seconds histogram\n");
+        acquire.writeTo(out, "studymate_db_pool_acquire_seconds", labels);
+        out.append("# HELP studymate_db_pool_usage_seconds Time a connection was borrowed\n");
+        out.append("# TYPE studymate_db_pool_usage_seconds histogram\n");
+        usage.writeTo(out, "studymate_db_pool_usage_seconds", labels);
+        out.append("# TYPE studymate_db_pool_timeouts_total counter\n");
+        out.append("studymate_db_pool_timeouts_total{").append(labels).append("} ").append(timeouts.sum()).append('\n');
+    }
+}
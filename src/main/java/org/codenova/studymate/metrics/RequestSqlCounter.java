@@ -0,0 +1,72 @@
+package org.codenova.studymate.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 요청 하나가 실행한 SQL 구문 수를 센다 (N+1 조회 확인용)
+// 요청 스레드뿐 아니라 Callable 핸들러를 실행하는 스레드에도 같은 카운터를 연결한다
+@Component
+public class RequestSqlCounter implements AsyncHandlerInterceptor, CallableProcessingInterceptor {
+
+    private static final String ATTRIBUTE = RequestSqlCounter.class.getName();
+    private static final ThreadLocal<AtomicInteger> CURRENT = new ThreadLocal<>();
+
+    private final SqlMetrics sqlMetrics;
+
+    public RequestSqlCounter(SqlMetrics sqlMetrics) {
+        this.sqlMetrics = sqlMetrics;
+    }
+
+    static void increment() {
+        AtomicInteger counter = CURRENT.get();
+        if (counter != null) {
+            counter.incrementAndGet();
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        AtomicInteger counter = (AtomicInteger) request.getAttribute(ATTRIBUTE);
+        if (counter == null) {   // 비동기 재디스패치에서는 처음 만든 카운터를 그대로 사용
+            counter = new AtomicInteger();
+            request.setAttribute(ATTRIBUTE, counter);
+        }
+        CURRENT.set(counter);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        CURRENT.remove();
+        AtomicInteger counter = (AtomicInteger) request.getAttribute(ATTRIBUTE);
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (counter != null && route != null) {
+            sqlMetrics.recordRequest(route.toString(), counter.get());
+        }
+    }
+
+    // 비동기 처리가 시작되면 요청 스레드에서는 카운터를 떼어낸다 (afterCompletion 은 재디스패치 때 호출됨)
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        CURRENT.remove();
+    }
+
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        CURRENT.set((AtomicInteger) request.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,70 @@
+package org.codenova.studymate.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 매퍼 구문별 실행 횟수 / 행 수 / 지연시간, 요청별 SQL 구문 수 집계
+@Component
+public class SqlMetrics {
+
+    private static final double[] LATENCY_SECONDS =
+            {0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5};
+    private static final double[] STATEMENTS_PER_REQUEST =
+            {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000};
+
+    private final Map<String, StatementStats> statements = new ConcurrentHashMap<>();
+    private final Map<String, BucketHistogram> requests = new ConcurrentHashMap<>();
+
+    public void recordStatement(String statementId, long nanos, long rows) {
+        StatementStats stats = statements.computeIfAbsent(statementId, k -> new StatementStats());
+        stats.latency.record(nanos / 1_000_000_000.0);
+        stats.rows.add(rows);
+    }
+
+    public void recordRequest(String route, int statementCount) {
+        requests.computeIfAbsent(route, k -> new BucketHistogram(STATEMENTS_PER_REQUEST)).record(statementCount);
+    }
+
+    public void writeTo(StringBuilder out) {
+        Map<String, StatementStats> sortedStatements = new TreeMap<>(statements);
+
+        out.append("# HELP studymate_sql_statement_seconds Mapper statement latency\n");
+        out.append("# TYPE studymate_sql_statement_seconds histogram\n");
+        sortedStatements.forEach((id, stats) -> stats.latency.writeTo(out, "studymate_sql_statement_seconds", label("statement", id)));
+
+        out.append("# HELP studymate_sql_statement_latency_seconds Mapper statement latency percentiles (bucket upper bound) and max\n");
+        out.append("# TYPE studymate_sql_statement_latency_seconds gauge\n");
+        sortedStatements.forEach((id, stats) -> {
+            String labels = label("statement", id);
+            out.append("studymate_sql_statement_latency_seconds{").append(labels).append(",quantile=\"0.5\"} ")
+                    .append(stats.latency.percentile(0.5)).append('\n');
+            out.append("studymate_sql_statement_latency_seconds{").append(labels).append(",quantile=\"0.99\"} ")
+                    .append(stats.latency.percentile(0.99)).append('\n');
+            out.append("studymate_sql_statement_latency_seconds{").append(labels).append(",quantile=\"1\"} ")
+                    .append(stats.latency.max()).append('\n');
+        });
+
+        out.append("# HELP studymate_sql_statement_rows_total Rows returned or affected by mapper statement\n");
+        out.append("# TYPE studymate_sql_statement_rows_total counter\n");
+        sortedStatements.forEach((id, stats) -> out.append("studymate_sql_statement_rows_total{")
+                .append(label("statement", id)).append("} ").append(stats.rows.sum()).append('\n'));
+
+        out.append("# HELP studymate_request_sql_statements SQL statements executed per HTTP request\n");
+        out.append("# TYPE studymate_request_sql_statements histogram\n");
+        new TreeMap<>(requests).forEach((route, histogram) ->
+                histogram.writeTo(out, "studymate_request_sql_statements", label("route", route)));
+    }
+
+    static String label(String name, String value) {
+        return name + "=\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private static class StatementStats {
+        final BucketHistogram latency = new BucketHistogram(LATENCY_SECONDS);
+        final LongAdder rows = new LongAdder();
+    }
+}
@@ -0,0 +1,55 @@
+package org.codenova.studymate.metrics;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+// 모든 매퍼 구문의 실행 시간과 행 수를 SqlMetrics 에 기록하고, 현재 요청의 구문 수를 센다
+// app-servlet.xml 의 SqlSessionFactoryBean plugins 에 등록되어 있다
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class})
+})
+public class SqlMetricsInterceptor implements Interceptor {
+
+    private final SqlMetrics sqlMetrics;
+
+    public SqlMetricsInterceptor(SqlMetrics sqlMetrics) {
+        this.sqlMetrics = sqlMetrics;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        long started = System.nanoTime();
+        Object result = invocation.proceed();
+        long elapsed = System.nanoTime() - started;
+
+        long rows;
+        if (result instanceof Collection<?> list) {
+            rows = list.size();
+        } else if (result instanceof Integer affected) {
+            rows = Math.max(affected, 0);
+        } else {
+            rows = 0;
+        }
+        sqlMetrics.recordStatement(statement.getId(), elapsed, rows);
+        RequestSqlCounter.increment();
+        return result;
+    }
+}
@@ -0,0 +1,24 @@
+package org.codenova.studymate.model.entity;
+
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupDissolution {
+
+    private String groupId;
+    private String creatorId;
+    private String stage;
+    private int deletedPosts;
+    private int deletedReactions;
+    private int deletedMembers;
+    private LocalDateTime requestedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,14 @@
+package org.codenova.studymate.model.query;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Setter
+@Getter
+public class LoginDailyStats {
+    private String userId;
+    private LocalDate loginDate;
+    private int loginCount;
+}
@@ -0,0 +1,13 @@
+package org.codenova.studymate.model.query;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// study_members 의 승인된 멤버 수와 member_count 가 다른 그룹 (멤버 수 보정용)
+@Setter
+@Getter
+public class MemberCountDrift {
+    private String groupId;
+    private int memberCount;
+    private int joined;
+}
@@ -0,0 +1,15 @@
+package org.codenova.studymate.model.query;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Setter
+@Getter
+public class PendingApplicant {
+    private String userId;
+    private String userName;
+    private String avatarUrl;
+    private LocalDateTime appliedAt;
+}
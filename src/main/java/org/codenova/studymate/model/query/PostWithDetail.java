@@ -0,0 +1,20 @@
+package org.codenova.studymate.model.query;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Setter
+@Getter
+public class PostWithDetail {
+    private int id;
+    private String content;
+    private LocalDateTime wroteAt;
+
+    private String writerName;
+    private int writerAvatarId;
+
+    private List<FeelingStats> reactions;
+}
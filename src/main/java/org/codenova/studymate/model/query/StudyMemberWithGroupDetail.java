@@ -17,4 +17,6 @@ public class StudyMemberWithGroupDetail {
     private String groupName;
     private String groupType;
     private int memberCount;
+    private LocalDateTime lastPostAt;
+    private int unreadCount;
 }
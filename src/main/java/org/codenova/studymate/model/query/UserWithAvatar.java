@@ -11,6 +11,7 @@ public class UserWithAvatar {
     private String password;
     private int loginCount;
     private int studyTime;
+    private int sessionVersion;
 
     private int avatarId;
     private String avatarName;
@@ -0,0 +1,24 @@
+package org.codenova.studymate.model.vo;
+
+import org.codenova.studymate.model.entity.StudyMember;
+
+// 사용자의 그룹 가입 상태
+public enum MembershipStatus {
+    NOT_JOINED, PENDING, MEMBER, LEADER;
+
+    public static MembershipStatus of(StudyMember member) {
+        if (member == null) {   // 가입하지 않은 경우
+            return NOT_JOINED;
+        } else if (member.getJoinedAt() == null) {   // 가입 신청했지만 아직 승인이 나지 않은 경우
+            return PENDING;
+        } else if (member.getRole().equals("멤버")) {   // 일반 멤버로 가입된 경우
+            return MEMBER;
+        } else {   // 그룹 리더인 경우
+            return LEADER;
+        }
+    }
+
+    public boolean isJoined() {
+        return this == MEMBER || this == LEADER;
+    }
+}
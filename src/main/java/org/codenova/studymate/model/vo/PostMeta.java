@@ -16,6 +16,7 @@ public class PostMeta {
     private String writerName;
     private String writerAvatar;
     private String time;
+    private long wroteAt;   // 작성 시각 (epoch millis), 화면에서 상대 시간을 다시 계산할 때 사용
 
     private List<FeelingStats> reactions;
 
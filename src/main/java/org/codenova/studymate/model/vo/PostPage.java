@@ -0,0 +1,17 @@
+package org.codenova.studymate.model.vo;
+
+import lombok.*;
+
+import java.util.List;
+
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PostPage {
+    private List<PostMeta> posts;
+
+    // 다음(더 오래된) 페이지를 요청할 때 사용할 커서, 더 이상 글이 없으면 null
+    private String nextCursor;
+}
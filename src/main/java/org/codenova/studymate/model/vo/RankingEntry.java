@@ -0,0 +1,17 @@
+package org.codenova.studymate.model.vo;
+
+import lombok.*;
+
+// 순위표 한 줄 (순위 / 사용자 / 점수)
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class RankingEntry {
+    private int rank;
+    private String userId;
+    private String userName;
+    private int avatarId;
+    private long score;
+}
@@ -0,0 +1,17 @@
+package org.codenova.studymate.model.vo;
+
+import lombok.*;
+import org.codenova.studymate.model.query.FeelingStats;
+
+import java.util.List;
+
+// 게시글 감정 통계가 바뀌었을 때 그룹 화면에 보내는 이벤트
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReactionUpdate {
+    private int postId;
+    private List<FeelingStats> reactions;
+}
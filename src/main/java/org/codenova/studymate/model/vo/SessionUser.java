@@ -0,0 +1,18 @@
+package org.codenova.studymate.model.vo;
+
+import lombok.*;
+
+// 세션 저장소에 보관하는 로그인 정보 (어느 서버에서든 이 값만으로 사용자를 복원한다)
+// 나머지 사용자 정보는 요청마다 UserSessions 의 캐시에서 채운다
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SessionUser {
+    private String userId;
+    private int avatarId;
+
+    // users.session_version, 비밀번호 변경 등으로 값이 올라가면 이전에 발급한 세션은 모두 무효
+    private int version;
+}
@@ -0,0 +1,81 @@
+package org.codenova.studymate.repository;
+
+import lombok.AllArgsConstructor;
+import org.codenova.studymate.component.MembershipIndex;
+import org.codenova.studymate.model.entity.GroupDissolution;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 그룹 해산 작업 : 한 조각(chunk)의 삭제와 진행 상황 기록을 한 트랜잭션으로 처리한다
+// 중간에 멈춰도 기록된 단계부터 다시 시작하면 되고, 잠금은 조각 하나를 지우는 동안만 잡힌다
+@Repository
+@AllArgsConstructor
+public class GroupDissolutionRepository {
+    private SqlSessionTemplate sqlSessionTemplate;
+    private MembershipIndex membershipIndex;
+
+    public int create(String groupId, String creatorId) {
+        return sqlSessionTemplate.insert("groupDissolution.create", Map.of("groupId", groupId, "creatorId", creatorId));
+    }
+
+    public List<GroupDissolution> findUnfinished(int limit) {
+        return sqlSessionTemplate.selectList("groupDissolution.findUnfinished", limit);
+    }
+
+    public int countUnfinished() {
+        return sqlSessionTemplate.selectOne("groupDissolution.countUnfinished");
+    }
+
+    // 게시글 size 개와 그 감정 / 감정 집계를 지운다, 남은 게시글이 없으면 MEMBERS 단계로 넘기고 0 을 반환
+    @Transactional
+    public int deletePostChunk(String groupId, int size) {
+        List<Integer> postIds = sqlSessionTemplate.selectList("groupDissolution.findPostIdsByGroupId",
+                Map.of("groupId", groupId, "size", size));
+        if (postIds.isEmpty()) {
+            addProgress(groupId, "MEMBERS", 0, 0, 0);
+            return 0;
+        }
+
+        int reactions = sqlSessionTemplate.delete("groupDissolution.deleteReactionsByPostIds", postIds);
+        sqlSessionTemplate.delete("groupDissolution.deleteReactionCountsByPostIds", postIds);
+        int posts = sqlSessionTemplate.delete("groupDissolution.deletePostsByIds", postIds);
+        addProgress(groupId, "POSTS", posts, reactions, 0);
+        return posts;
+    }
+
+    // 멤버(승인 대기 포함) size 명을 지운다, 남은 멤버가 없으면 작업을 끝내고 0 을 반환
+    // 끝내기 전에 게시글을 한 번 더 확인해서, 해산 요청 직전에 쓰기 시작한 글이 남아 있으면 POSTS 단계로 되돌리고 -1 을 반환
+    @Transactional
+    public int deleteMemberChunk(String groupId, int size) {
+        int members = sqlSessionTemplate.delete("groupDissolution.deleteMembersByGroupId",
+                Map.of("groupId", groupId, "size", size));
+        if (members == 0) {
+            List<Integer> leftPosts = sqlSessionTemplate.selectList("groupDissolution.findPostIdsByGroupId",
+                    Map.of("groupId", groupId, "size", 1));
+            if (!leftPosts.isEmpty()) {
+                addProgress(groupId, "POSTS", 0, 0, 0);
+                return -1;
+            }
+            addProgress(groupId, "DONE", 0, 0, 0);
+            membershipIndex.invalidateGroup(groupId);
+            return 0;
+        }
+        addProgress(groupId, "MEMBERS", 0, 0, members);
+        return members;
+    }
+
+    private void addProgress(String groupId, String stage, int posts, int reactions, int members) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("groupId", groupId);
+        params.put("stage", stage);
+        params.put("posts", posts);
+        params.put("reactions", reactions);
+        params.put("members", members);
+        sqlSessionTemplate.update("groupDissolution.addProgress", params);
+    }
+}
@@ -1,11 +1,16 @@
 package org.codenova.studymate.repository;
 
 import org.codenova.studymate.model.entity.LoginLog;
+import org.codenova.studymate.model.query.LoginDailyStats;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 public class LoginLogRepository {
@@ -24,4 +29,30 @@ public class LoginLogRepository {
     public LoginLog findLatestByUserId(String userId) {
         return sqlSessionTemplate.selectOne("loginLog.findLatestByUserId", userId);
     }
+
+    // (before, beforeId) 이전의 로그인 기록을 최신순으로 size 개 조회 (beforeId 가 null 이면 가장 최근부터)
+    public List<LoginLog> findPageByUserId(String userId, LocalDateTime before, Integer beforeId, int size) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("userId", userId);
+        params.put("before", before);
+        params.put("beforeId", beforeId);
+        params.put("size", size);
+        return sqlSessionTemplate.selectList("loginLog.findPageByUserId", params);
+    }
+
+    public List<LoginDailyStats> findDailyStatsByUserId(String userId, LocalDate from) {
+        return sqlSessionTemplate.selectList("loginLog.findDailyStatsByUserId", Map.of("userId", userId, "from", from));
+    }
+
+    public List<String> findPartitionNames() {
+        return sqlSessionTemplate.selectList("loginLog.findPartitionNames");
+    }
+
+    public int addPartition(String name, LocalDate lessThan) {
+        return sqlSessionTemplate.update("loginLog.addPartition", Map.of("name", name, "lessThan", lessThan.toString()));
+    }
+
+    public int dropPartition(String name) {
+        return sqlSessionTemplate.update("loginLog.dropPartition", Map.of("name", name));
+    }
 }
@@ -5,6 +5,7 @@ import org.codenova.studymate.model.entity.PostReaction;
 import org.codenova.studymate.model.query.FeelingStats;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
@@ -14,8 +15,12 @@ import java.util.Map;
 public class PostReactionRepository {
     private SqlSessionTemplate sqlSessionTemplate;
 
+    // 감정 저장과 집계 증가를 한 트랜잭션으로 처리
+    @Transactional
     public int create(PostReaction postReaction){
-        return sqlSessionTemplate.insert("postReaction.create", postReaction);
+        int result = sqlSessionTemplate.insert("postReaction.create", postReaction);
+        sqlSessionTemplate.insert("postReaction.increaseCount", postReaction);
+        return result;
     }
 
     public List<PostReaction> findByPostId(int postId){
@@ -26,11 +31,55 @@ public class PostReactionRepository {
         return sqlSessionTemplate.selectOne("postReaction.findByWriterIdAndPostId", map);
     }
 
+    // 감정 행을 잠근 뒤 삭제하므로, 동시에 같은 감정을 취소해도 집계는 한 번만 감소함
+    @Transactional
     public int deleteById(int id) {
-        return sqlSessionTemplate.delete("postReaction.deleteById", id);
+        PostReaction found = sqlSessionTemplate.selectOne("postReaction.findByIdForUpdate", id);
+        if (found == null) {
+            return 0;
+        }
+        int result = sqlSessionTemplate.delete("postReaction.deleteById", id);
+        sqlSessionTemplate.update("postReaction.decreaseCount", found);
+        return result;
+    }
+
+    // 감정 남기기 : 남긴 감정이 없으면 추가, 다른 감정이면 변경, 같은 감정이면 그대로 (감정 행은 upsert 하나로 추가 / 변경)
+    // 집계(post_reaction_counts)를 옮기려면 이전 감정을 알아야 하므로 사용자의 감정 행을 먼저 잠가서 읽는다
+    // 같은 사용자의 동시 요청에도 집계가 어긋나지 않는다
+    // 변경 후의 감정 통계를 반환, 게시글이 경로의 그룹에 없거나 그룹이 해산되었으면 null
+    @Transactional
+    public List<FeelingStats> react(PostReaction postReaction) {
+        PostReaction found = sqlSessionTemplate.selectOne("postReaction.findByWriterIdAndPostIdForUpdate", postReaction);
+        if (found == null) {
+            if (sqlSessionTemplate.insert("postReaction.upsert", postReaction) == 0) {
+                return null;
+            }
+            sqlSessionTemplate.insert("postReaction.increaseCount", postReaction);
+        } else if (!found.getFeeling().equals(postReaction.getFeeling())) {
+            if (sqlSessionTemplate.insert("postReaction.upsert", postReaction) == 0) {
+                return null;
+            }
+            sqlSessionTemplate.insert("postReaction.moveCount",
+                    Map.of("postId", postReaction.getPostId(), "from", found.getFeeling(), "to", postReaction.getFeeling()));
+        }
+        return countFeelingByPostId(postReaction.getPostId());
     }
 
     public List<FeelingStats> countFeelingByPostId(int postId) {
         return sqlSessionTemplate.selectList("postReaction.countFeelingByPostId", postId);
     }
+
+    // post_reactions 로부터 게시글 하나의 감정 집계를 다시 계산
+    // 그 게시글의 감정 행을 먼저 잠그므로 (react 와 같은 인덱스), 재계산 중의 감정 남기기는 끝날 때까지 기다린다
+    @Transactional
+    public int rebuildCountsByPostId(int postId) {
+        sqlSessionTemplate.selectList("postReaction.lockByPostId", postId);
+        sqlSessionTemplate.delete("postReaction.deleteCountsByPostId", postId);
+        return sqlSessionTemplate.insert("postReaction.rebuildCountsByPostId", postId);
+    }
+
+    // 재계산할 게시글 ID (after 다음부터 size 개)
+    public List<Integer> findCountedPostIdPage(int after, int size) {
+        return sqlSessionTemplate.selectList("postReaction.findCountedPostIdPage", Map.of("after", after, "size", size));
+    }
 }
@@ -1,22 +1,42 @@
 package org.codenova.studymate.repository;
 
 import lombok.AllArgsConstructor;
+import org.codenova.studymate.component.PostActivityBuffer;
 import org.codenova.studymate.model.entity.Post;
+import org.codenova.studymate.model.query.PostWithDetail;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 @AllArgsConstructor
 public class PostRepository {
     private SqlSessionTemplate sqlSessionTemplate;
+    private PostActivityBuffer postActivityBuffer;
 
+    // 그룹 활동(글 수 / 최근 활동 시각)은 버퍼에 모았다가 주기적으로 반영 (인기 그룹의 행 잠금 경합 방지)
+    // 그룹이 없으면(해산되었으면) 추가하지 않고 0 을 반환
     public int create(Post post) {
-        return sqlSessionTemplate.insert("post.create", post);
+        int result = sqlSessionTemplate.insert("post.create", post);
+        if (result > 0) {
+            postActivityBuffer.add(post.getGroupId(), post.getWroteAt());
+        }
+        return result;
     }
 
     public List<Post> findByGroupId(String groupId) {
         return sqlSessionTemplate.selectList("post.findByGroupId", groupId);
     }
+
+    // 그룹의 가장 최근 글 작성 시각, 글이 없으면 null
+    public LocalDateTime findLatestWroteAtByGroupId(String groupId) {
+        return sqlSessionTemplate.selectOne("post.findLatestWroteAtByGroupId", groupId);
+    }
+
+    public List<PostWithDetail> findPageWithDetailByGroupId(Map params) {
+        return sqlSessionTemplate.selectList("post.findPageWithDetailByGroupId", params);
+    }
 }
@@ -1,9 +1,18 @@
 package org.codenova.studymate.repository;
 
 import lombok.AllArgsConstructor;
+import org.codenova.studymate.component.MemberCountBuffer;
+import org.codenova.studymate.component.StudyGroupCache;
+import org.codenova.studymate.component.StudyGroupSearchIndex;
 import org.codenova.studymate.model.entity.StudyGroup;
+import org.codenova.studymate.model.vo.StudyGroupWithCreator;
 import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 
@@ -11,28 +20,100 @@ import java.util.List;
 @AllArgsConstructor
 public class StudyGroupRepository {
     private SqlSessionTemplate sqlSessionTemplate;
+    private StudyGroupSearchIndex searchIndex;
+    private StudyGroupCache studyGroupCache;
+    private MemberCountBuffer memberCountBuffer;
 
+    // 애플리케이션 시작 시 검색 색인 적재
+    @EventListener(ContextRefreshedEvent.class)
+    public void loadSearchIndex() {
+        searchIndex.load(sqlSessionTemplate.selectList("studyGroup.findAll"));
+    }
+
+    // 다른 인스턴스에서 생성 / 해산된 그룹을 검색 색인에 반영 (여러 대일 때 검색 결과는 최대 reload-millis 만큼 늦게 맞춰진다)
+    @Scheduled(initialDelayString = "${studymate.search.reload-millis:300000}",
+            fixedDelayString = "${studymate.search.reload-millis:300000}")
+    public void reloadSearchIndex() {
+        searchIndex.reload(() -> sqlSessionTemplate.selectList("studyGroup.findAll"));
+    }
+
+    // 색인에는 커밋된 뒤에 반영 (롤백된 그룹이 검색되지 않도록)
     public int create(StudyGroup studyGroup) {
-        return sqlSessionTemplate.insert("studyGroup.create", studyGroup);
+        int result = sqlSessionTemplate.insert("studyGroup.create", studyGroup);
+        afterCommit(() -> searchIndex.add(studyGroup));
+        return result;
     }
 
-    public int addMemberCountById(String id){
-        return sqlSessionTemplate.update("studyGroup.addMemberCountById", id);
+    // 멤버 수 증감은 버퍼에 모았다가 주기적으로 반영 (인기 그룹의 행 잠금 경합 방지)
+    public void addMemberCountById(String id){
+        memberCountBuffer.add(id, 1);
     }
 
-    public int subtractMemberCountById(String id){
-        return sqlSessionTemplate.update("studyGroup.subtractMemberCountById", id);
+    // 여러 명이 한 번에 가입(일괄 승인)한 경우 증감을 한 번에 반영
+    public void addMemberCountById(String id, int amount){
+        memberCountBuffer.add(id, amount);
+    }
+
+    public void subtractMemberCountById(String id){
+        memberCountBuffer.add(id, -1);
     }
 
     public List<StudyGroup> findByNameLikeOrGoalLike(String word){
         return sqlSessionTemplate.selectList("studyGroup.findByNameLikeOrGoalLike", word);
     }
 
+    // 검색어를 포함하는 그룹 ID 목록 (관련도 순, DB 조회 없음)
+    public List<String> searchIds(String word) {
+        return searchIndex.search(word);
+    }
+
+    public List<StudyGroupWithCreator> findWithCreatorByIds(List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return sqlSessionTemplate.selectList("studyGroup.findWithCreatorByIds", ids);
+    }
+
+    // 캐시를 거쳐 조회 (없으면 DB 에서 읽어 캐시에 저장)
+    // 아직 반영되지 않은 멤버 수 증감이 있으면 사본에 더해서 반환 (캐시된 객체는 바꾸지 않음)
     public StudyGroup findById(String id){
-        return sqlSessionTemplate.selectOne("studyGroup.findById", id);
+        StudyGroup found = studyGroupCache.get(id, key -> sqlSessionTemplate.selectOne("studyGroup.findById", key));
+        long pending = memberCountBuffer.pending(id);
+        if (found == null || pending == 0) {
+            return found;
+        }
+
+        StudyGroup copy = new StudyGroup();
+        copy.setId(found.getId());
+        copy.setName(found.getName());
+        copy.setType(found.getType());
+        copy.setGoal(found.getGoal());
+        copy.setCreatorId(found.getCreatorId());
+        copy.setCreatedAt(found.getCreatedAt());
+        copy.setMemberCount(found.getMemberCount() + (int) pending);
+        return copy;
     }
 
+    // 색인 / 캐시에서는 커밋된 뒤에 제거 (롤백되면 그대로 남는다)
     public int deleteById(String id) {
-        return sqlSessionTemplate.delete("studyGroup.deleteById", id);
+        int result = sqlSessionTemplate.delete("studyGroup.deleteById", id);
+        afterCommit(() -> {
+            searchIndex.remove(id);
+            studyGroupCache.invalidate(id);
+        });
+        return result;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
 }
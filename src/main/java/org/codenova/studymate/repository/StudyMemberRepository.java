@@ -1,11 +1,23 @@
 package org.codenova.studymate.repository;
 
 import lombok.AllArgsConstructor;
+import org.codenova.studymate.component.Leaderboards;
+import org.codenova.studymate.component.MembershipIndex;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.codenova.studymate.model.entity.StudyMember;
+import org.codenova.studymate.model.query.PendingApplicant;
 import org.codenova.studymate.model.query.StudyMemberWithGroupDetail;
+import org.codenova.studymate.model.vo.MembershipStatus;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -13,17 +25,86 @@ import java.util.Map;
 @AllArgsConstructor
 public class StudyMemberRepository {
     private SqlSessionTemplate sqlSessionTemplate;
+    private SqlSessionFactory sqlSessionFactory;
+    private MembershipIndex membershipIndex;
+    private Leaderboards leaderboards;
 
+    // 이미 가입(신청)한 경우 아무것도 하지 않고 0 을 반환
     public int createApproved(StudyMember studyMember) {
-        return sqlSessionTemplate.insert("studyMember.createApproved", studyMember);
+        int result = sqlSessionTemplate.insert("studyMember.createApproved", studyMember);
+        membershipIndex.invalidate(studyMember.getUserId(), studyMember.getGroupId());
+        leaderboards.evictGroup(studyMember.getGroupId());
+        return result;
     }
 
     public int createPending(StudyMember studyMember) {
-        return sqlSessionTemplate.insert("studyMember.createPending", studyMember);
+        int result = sqlSessionTemplate.insert("studyMember.createPending", studyMember);
+        membershipIndex.invalidate(studyMember.getUserId(), studyMember.getGroupId());
+        return result;
     }
 
-    public int updateJoinedAtById(int id) {
-        return sqlSessionTemplate.update("studyMember.updateJoinedAtById", id);
+    // 승인 대기 중인 경우에만 승인 처리, 이미 승인됐거나 신청이 없으면 0 을 반환
+    public int updateJoinedAtByUserIdAndGroupId(String userId, String groupId) {
+        int result = sqlSessionTemplate.update("studyMember.updateJoinedAtByUserIdAndGroupId",
+                Map.of("userId", userId, "groupId", groupId));
+        membershipIndex.invalidate(userId, groupId);
+        leaderboards.evictGroup(groupId);
+        return result;
+    }
+
+    // 그룹 화면을 본 멤버의 안 읽은 글 수를 0 으로, 새 글이 없었으면 0 을 반환
+    public int updateLastSeenByUserIdAndGroupId(String userId, String groupId) {
+        return sqlSessionTemplate.update("studyMember.updateLastSeenByUserIdAndGroupId",
+                Map.of("userId", userId, "groupId", groupId));
+    }
+
+    // 여러 신청을 한 번에 승인, 실제로 승인된(승인 대기 중이던) 사용자 ID 를 반환
+    @Transactional
+    public List<String> approveAll(String groupId, List<String> userIds) {
+        return executeBatch("studyMember.updateJoinedAtByUserIdAndGroupId", groupId, userIds, null);
+    }
+
+    // 여러 신청을 한 번에 거절(승인 대기 행 삭제), 실제로 삭제된 사용자 ID 를 반환
+    @Transactional
+    public List<String> rejectAll(String groupId, List<String> userIds) {
+        return executeBatch("studyMember.deleteByUserIdAndGroupId", groupId, userIds, true);
+    }
+
+    // 같은 구문을 사용자마다 JDBC 배치로 모아 한 번에 보낸다
+    // 현재 트랜잭션의 커넥션을 그대로 쓰므로 (SpringManagedTransaction) 트랜잭션과 함께 커밋 / 롤백된다
+    private List<String> executeBatch(String statement, String groupId, List<String> userIds, Boolean pending) {
+        List<String> targets = new ArrayList<>(new LinkedHashSet<>(userIds));   // 같은 사용자가 두 번 세어지지 않도록
+        List<String> changed = new ArrayList<>();
+        if (targets.isEmpty()) {
+            return changed;
+        }
+
+        try (SqlSession batch = sqlSessionFactory.openSession(ExecutorType.BATCH)) {
+            for (String one : targets) {
+                Map<String, Object> params = new HashMap<>();
+                params.put("userId", one);
+                params.put("groupId", groupId);
+                params.put("pending", pending);
+                batch.update(statement, params);   // delete 도 배치 실행기에서는 update 와 같은 경로
+            }
+            List<BatchResult> results = batch.flushStatements();
+            int[] counts = results.get(0).getUpdateCounts();
+            for (int i = 0; i < targets.size(); i++) {
+                if (counts[i] > 0) {
+                    changed.add(targets.get(i));
+                }
+            }
+        }
+
+        for (String one : targets) {
+            membershipIndex.invalidate(one, groupId);
+        }
+        leaderboards.evictGroup(groupId);
+        return changed;
+    }
+
+    public List<PendingApplicant> findPendingByGroupId(String groupId) {
+        return sqlSessionTemplate.selectList("studyMember.findPendingByGroupId", groupId);
     }
 
     public List<StudyMember>findByUserId(String userId) {
@@ -34,12 +115,36 @@ public class StudyMemberRepository {
         return sqlSessionTemplate.selectOne("studyMember.findByUserIdAndGroupId", params);
     }
 
-    public int deleteById(int id) {
-        return sqlSessionTemplate.delete("studyMember.deleteById", id);
+    // 가입 상태 조회 (색인에 없을 때만 DB 조회)
+    // 색인은 이 노드의 변경만 무효화되므로 ETag 계산처럼 조금 늦어도 되는 곳에만 쓴다
+    public MembershipStatus findStatusByUserIdAndGroupId(String userId, String groupId) {
+        return membershipIndex.get(userId, groupId, key -> findCurrentStatusByUserIdAndGroupId(key.userId(), key.groupId()));
+    }
+
+    // 권한 확인 / 가입 / 탈퇴 / 철회용 : 색인을 거치지 않고 (user_id, group_id) 유니크 키로 DB 에서 바로 조회
+    // 다른 노드에서 탈퇴 / 추방된 멤버도 바로 막힌다
+    public MembershipStatus findCurrentStatusByUserIdAndGroupId(String userId, String groupId) {
+        return MembershipStatus.of(sqlSessionTemplate.selectOne("studyMember.findByUserIdAndGroupId",
+                Map.of("userId", userId, "groupId", groupId)));
+    }
+
+    // pending 이 true 면 승인 대기 중인 행만, false 면 승인된 행만, null 이면 상태와 무관하게 삭제
+    public int deleteByUserIdAndGroupId(String userId, String groupId, Boolean pending) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("userId", userId);
+        params.put("groupId", groupId);
+        params.put("pending", pending);
+        int result = sqlSessionTemplate.delete("studyMember.deleteByUserIdAndGroupId", params);
+        membershipIndex.invalidate(userId, groupId);
+        leaderboards.evictGroup(groupId);
+        return result;
     }
 
     public int deleteByGroupId(String groupId) {
-        return sqlSessionTemplate.delete("studyMember.deleteByGroupId", groupId);
+        int result = sqlSessionTemplate.delete("studyMember.deleteByGroupId", groupId);
+        membershipIndex.invalidateGroup(groupId);
+        leaderboards.evictGroup(groupId);
+        return result;
     }
 
     public List<StudyMemberWithGroupDetail> findWithGroupDetailByUserId(String userId) {
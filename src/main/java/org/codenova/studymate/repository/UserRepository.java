@@ -1,29 +1,48 @@
 package org.codenova.studymate.repository;
 
 import lombok.AllArgsConstructor;
+import org.codenova.studymate.component.Leaderboards;
 import org.codenova.studymate.model.entity.User;
 import org.codenova.studymate.model.query.UserWithAvatar;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 
 @Repository
 @AllArgsConstructor
 public class UserRepository {
     private SqlSessionTemplate template;
+    private Leaderboards leaderboards;
 
     public int create(User user) {
-        return template.insert("user.create", user);
+        int result = template.insert("user.create", user);
+        if (result > 0) {
+            leaderboards.addUser(user.getId());
+        }
+        return result;
     }
 
     public User findById(String id) {
         return template.selectOne("user.findById", id);
     }
 
+    // 이름 / 아바타만 (순위표 표시용)
+    public List<User> findByIds(List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return template.selectList("user.findByIds", ids);
+    }
+
     public UserWithAvatar findWithAvatarById(String id) {
         return template.selectOne("user.findWithAvatarById", id);
     }
 
+    public int increaseSessionVersionById(String id) {
+        return template.update("user.increaseSessionVersionById", id);
+    }
+
     public int updateLoginCountByUserId(String id) {
         return template.update("user.updateLoginCountByUserId", id);
     }
@@ -0,0 +1,100 @@
+package org.codenova.studymate.session;
+
+import org.codenova.studymate.model.vo.SessionUser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.List;
+
+// 디렉터리에 세션마다 파일 하나를 두는 저장소 (여러 서버가 같은 디렉터리를 마운트하면 세션을 공유)
+// 파일 내용은 "userId\navatarId\nversion", 마지막 수정 시각 + timeout 이 만료 시각이다
+// 요청마다 파일을 쓰지 않도록 만료 시각 연장(수정 시각 갱신)은 1분에 한 번만 한다
+public class FileSessionStore implements SessionStore {
+
+    private static final long TOUCH_INTERVAL_MILLIS = 60_000;
+
+    private final Path directory;
+    private volatile Duration lastTimeout = Duration.ofMinutes(30);
+
+    public FileSessionStore(Path directory) {
+        try {
+            this.directory = Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot create session directory " + directory, e);
+        }
+    }
+
+    @Override
+    public SessionUser find(String token, Duration timeout) {
+        lastTimeout = timeout;
+        Path file = directory.resolve(token);
+        try {
+            long modified = Files.getLastModifiedTime(file).toMillis();
+            long now = System.currentTimeMillis();
+            if (modified + timeout.toMillis() < now) {
+                Files.deleteIfExists(file);
+                return null;
+            }
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            if (now - modified > TOUCH_INTERVAL_MILLIS) {
+                Files.setLastModifiedTime(file, FileTime.fromMillis(now));
+            }
+            return new SessionUser(lines.get(0), Integer.parseInt(lines.get(1)), Integer.parseInt(lines.get(2)));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void save(String token, SessionUser sessionUser, Duration timeout) {
+        lastTimeout = timeout;
+        String content = sessionUser.getUserId() + "\n" + sessionUser.getAvatarId() + "\n" + sessionUser.getVersion();
+        try {
+            // 다른 서버가 쓰다 만 파일을 읽지 않도록 임시 파일에 쓴 뒤 옮긴다
+            Path temp = Files.createTempFile(directory, ".session", ".tmp");
+            Files.writeString(temp, content, StandardCharsets.UTF_8);
+            Files.move(temp, directory.resolve(token), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void remove(String token) {
+        try {
+            Files.deleteIfExists(directory.resolve(token));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public int purgeExpired() {
+        long expiredBefore = System.currentTimeMillis() - lastTimeout.toMillis();
+        int purged = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                try {
+                    if (Files.getLastModifiedTime(file).toMillis() < expiredBefore && Files.deleteIfExists(file)) {
+                        purged++;
+                    }
+                } catch (NoSuchFileException e) {
+                    // 다른 서버가 먼저 정리함
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return purged;
+    }
+}
@@ -0,0 +1,52 @@
+package org.codenova.studymate.session;
+
+import org.codenova.studymate.model.vo.SessionUser;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 서버 메모리에 보관하는 세션 저장소 (서버 한 대로 운영할 때의 기본값)
+public class MemorySessionStore implements SessionStore {
+
+    private final Map<String, Entry> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    public SessionUser find(String token, Duration timeout) {
+        Entry entry = sessions.get(token);
+        long now = System.currentTimeMillis();
+        if (entry == null || entry.expiresAt < now) {
+            return null;
+        }
+        entry.expiresAt = now + timeout.toMillis();
+        return entry.sessionUser;
+    }
+
+    @Override
+    public void save(String token, SessionUser sessionUser, Duration timeout) {
+        sessions.put(token, new Entry(sessionUser, System.currentTimeMillis() + timeout.toMillis()));
+    }
+
+    @Override
+    public void remove(String token) {
+        sessions.remove(token);
+    }
+
+    @Override
+    public int purgeExpired() {
+        long now = System.currentTimeMillis();
+        int before = sessions.size();
+        sessions.values().removeIf(entry -> entry.expiresAt < now);
+        return before - sessions.size();
+    }
+
+    private static class Entry {
+        private final SessionUser sessionUser;
+        private volatile long expiresAt;
+
+        private Entry(SessionUser sessionUser, long expiresAt) {
+            this.sessionUser = sessionUser;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.codenova.studymate.session;
+
+import org.codenova.studymate.model.vo.SessionUser;
+
+import java.time.Duration;
+
+// 로그인 세션 저장소, 여러 서버가 같은 저장소를 쓰면 어느 서버로 요청이 가도 같은 세션을 본다
+// - memory : 서버 한 대 / 개발용 (기본값)
+// - file : 공유 디렉터리에 세션마다 파일 하나 (외부 저장소를 붙이기 전의 대체 구현)
+// 외부 저장소(Redis 등)는 이 인터페이스를 구현해서 UserSessions 에 연결한다
+public interface SessionStore {
+
+    // 만료되지 않은 세션이면 반환하고 만료 시각을 timeout 만큼 연장한다, 없거나 만료되었으면 null
+    SessionUser find(String token, Duration timeout);
+
+    void save(String token, SessionUser sessionUser, Duration timeout);
+
+    void remove(String token);
+
+    // 만료된 세션 정리, 정리한 개수 반환
+    int purgeExpired();
+}
@@ -0,0 +1,32 @@
+package org.codenova.studymate.session;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.codenova.studymate.model.query.UserWithAvatar;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// 세션 쿠키로 찾은 로그인 사용자를 요청 속성 "user" 로 둔다
+// 핸들러는 @RequestAttribute("user"), JSP 는 ${user} 로 사용한다
+@Component
+public class UserSessionInterceptor implements HandlerInterceptor {
+
+    public static final String ATTRIBUTE = "user";
+
+    private final UserSessions userSessions;
+
+    public UserSessionInterceptor(UserSessions userSessions) {
+        this.userSessions = userSessions;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(ATTRIBUTE) == null) {   // 비동기 재디스패치에서는 처음 찾은 사용자를 그대로 사용
+            UserWithAvatar user = userSessions.resolve(request);
+            if (user != null) {
+                request.setAttribute(ATTRIBUTE, user);
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,174 @@
+package org.codenova.studymate.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.codenova.studymate.model.query.UserWithAvatar;
+import org.codenova.studymate.model.vo.SessionUser;
+import org.codenova.studymate.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+// 로그인 세션 관리
+// - 쿠키에는 임의의 토큰만, 저장소(SessionStore)에는 (사용자 ID, 아바타 ID, 세션 버전)만 둔다
+//   HttpSession 에 아무것도 두지 않으므로 스티키 세션 없이 어느 서버로 요청이 가도 된다
+// - 화면에 필요한 사용자 정보(UserWithAvatar, 비밀번호 제외)는 사용자별로 짧게 캐시해서 요청마다 채운다
+//   세션 버전도 이 캐시로 확인하므로, 다른 서버에서 올린 버전(모든 기기에서 로그아웃)은 최대 userCacheSeconds 뒤에 반영된다
+// - 저장소는 studymate.session.store 로 선택 (memory / file + studymate.session.directory)
+@Component
+public class UserSessions {
+
+    public static final String COOKIE_NAME = "STUDYMATE_SESSION";
+
+    private static final Log log = LogFactory.getLog(UserSessions.class);
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("[A-Za-z0-9_-]{43}");
+
+    private final UserRepository userRepository;
+    private final SessionStore sessionStore;
+    private final Duration timeout;
+    private final boolean secureCookie;
+    private final SecureRandom random = new SecureRandom();
+
+    private final Cache<String, UserWithAvatar> users;
+
+    public UserSessions(UserRepository userRepository,
+                        @Value("${studymate.session.store:memory}") String store,
+                        @Value("${studymate.session.directory:}") String directory,
+                        @Value("${studymate.session.timeout-minutes:30}") long timeoutMinutes,
+                        @Value("${studymate.session.secure-cookie:false}") boolean secureCookie,
+                        @Value("${studymate.session.user-cache-seconds:30}") long userCacheSeconds) {
+        this.userRepository = userRepository;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofSeconds(userCacheSeconds))
+                .build();
+        this.timeout = Duration.ofMinutes(timeoutMinutes);
+        this.secureCookie = secureCookie;
+        if (store.equals("file")) {
+            if (directory.isBlank()) {
+                throw new IllegalStateException("studymate.session.directory is required for the file session store");
+            }
+            this.sessionStore = new FileSessionStore(Path.of(directory));
+        } else if (store.equals("memory")) {
+            this.sessionStore = new MemorySessionStore();
+        } else {
+            throw new IllegalStateException("unknown session store : " + store);
+        }
+    }
+
+    // 로그인 성공 시 새 토큰을 발급한다 (로그인 전의 토큰은 재사용하지 않음)
+    public void login(UserWithAvatar user, HttpServletRequest request, HttpServletResponse response) {
+        removeCurrent(request);
+
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        sessionStore.save(token, new SessionUser(user.getId(), user.getAvatarId(), user.getSessionVersion()), timeout);
+        users.invalidate(user.getId());
+        response.addCookie(cookie(request, token, -1));
+    }
+
+    public void logout(HttpServletRequest request, HttpServletResponse response) {
+        removeCurrent(request);
+        response.addCookie(cookie(request, "", 0));
+    }
+
+    // 모든 기기에서 로그아웃 : 세션 버전을 올려 이 사용자에게 발급한 세션을 모두 무효화한다
+    public void logoutEverywhere(String userId, HttpServletRequest request, HttpServletResponse response) {
+        userRepository.increaseSessionVersionById(userId);
+        evict(userId);
+        logout(request, response);
+    }
+
+    // 요청의 세션 쿠키로 로그인한 사용자를 찾는다, 로그인하지 않았거나 만료 / 무효화된 세션이면 null
+    public UserWithAvatar resolve(HttpServletRequest request) {
+        String token = token(request);
+        if (token == null) {
+            return null;
+        }
+        SessionUser sessionUser = sessionStore.find(token, timeout);
+        if (sessionUser == null) {
+            return null;
+        }
+
+        UserWithAvatar user = users.get(sessionUser.getUserId(), this::load);
+        if (user != null && user.getAvatarId() != sessionUser.getAvatarId()) {
+            // 다른 서버에서 바뀐 아바타가 캐시에 아직 반영되지 않음
+            users.invalidate(sessionUser.getUserId());
+            user = users.get(sessionUser.getUserId(), this::load);
+        }
+        if (user == null || user.getSessionVersion() != sessionUser.getVersion()) {
+            // 탈퇴했거나 세션 버전이 올라가서 이전 세션이 무효화됨
+            sessionStore.remove(token);
+            return null;
+        }
+        return user;
+    }
+
+    // 사용자 정보가 바뀌었을 때 캐시에서 제거
+    public void evict(String userId) {
+        users.invalidate(userId);
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeExpired() {
+        try {
+            int purged = sessionStore.purgeExpired();
+            if (purged > 0) {
+                log.info("purged " + purged + " expired sessions");
+            }
+        } catch (RuntimeException e) {
+            log.error("failed to purge expired sessions", e);
+        }
+    }
+
+    private UserWithAvatar load(String userId) {
+        UserWithAvatar found = userRepository.findWithAvatarById(userId);
+        if (found != null) {
+            found.setPassword(null);   // 세션으로 복원한 사용자 정보에는 비밀번호를 두지 않는다
+        }
+        return found;
+    }
+
+    private void removeCurrent(HttpServletRequest request) {
+        String token = token(request);
+        if (token != null) {
+            sessionStore.remove(token);
+        }
+    }
+
+    private String token(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie one : cookies) {
+            if (one.getName().equals(COOKIE_NAME) && TOKEN_PATTERN.matcher(one.getValue()).matches()) {
+                return one.getValue();
+            }
+        }
+        return null;
+    }
+
+    private Cookie cookie(HttpServletRequest request, String value, int maxAge) {
+        Cookie cookie = new Cookie(COOKIE_NAME, value);
+        cookie.setPath(request.getContextPath().isEmpty() ? "/" : request.getContextPath());
+        cookie.setHttpOnly(true);
+        cookie.setSecure(secureCookie);
+        cookie.setMaxAge(maxAge);
+        cookie.setAttribute("SameSite", "Lax");
+        return cookie;
+    }
+}
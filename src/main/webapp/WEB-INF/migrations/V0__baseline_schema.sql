@@ -0,0 +1,65 @@
+-- 최초 스키마 : 매퍼가 사용하는 테이블 (이후의 인덱스 / 테이블 변경은 V1 부터)
+-- 이미 테이블이 있는 DB 에서는 아무것도 하지 않는다
+create table if not exists avatars (
+    id        int          not null auto_increment primary key,
+    name      varchar(50)  not null,
+    image_url varchar(200) not null
+);
+
+create table if not exists users (
+    id          varchar(50)  not null primary key,
+    password    varchar(100) not null,
+    name        varchar(50)  not null,
+    avatar_id   int          not null,
+    login_count int          not null default 0,
+    study_time  int          not null default 0
+);
+
+create table if not exists study_groups (
+    id           varchar(20)  not null primary key,
+    name         varchar(100) not null,
+    type         varchar(10)  not null,
+    goal         varchar(500),
+    creator_id   varchar(50)  not null,
+    created_at   datetime     not null,
+    member_count int          not null default 0
+);
+
+create table if not exists study_members (
+    id         int         not null auto_increment primary key,
+    user_id    varchar(50) not null,
+    group_id   varchar(20) not null,
+    role       varchar(10) not null,
+    applied_at datetime    not null,
+    joined_at  datetime
+);
+
+create table if not exists posts (
+    id        int           not null auto_increment primary key,
+    group_id  varchar(20)   not null,
+    writer_id varchar(50)   not null,
+    content   varchar(1000) not null,
+    wrote_at  datetime      not null
+);
+
+create table if not exists post_reactions (
+    id        int         not null auto_increment primary key,
+    group_id  varchar(20) not null,
+    post_id   int         not null,
+    feeling   varchar(20) not null,
+    writer_id varchar(50) not null
+);
+
+create table if not exists login_logs (
+    id       int         not null auto_increment primary key,
+    user_id  varchar(50) not null,
+    login_at datetime    not null
+);
+
+insert ignore into avatars (id, name, image_url) values
+    (1, 'kid-male', '/image/avatars/kid-male.png'),
+    (2, 'kid-female', '/image/avatars/kid-female.png'),
+    (3, 'adult-male', '/image/avatars/adult-male.png'),
+    (4, 'adult-female', '/image/avatars/adult-female.png'),
+    (5, 'old-male', '/image/avatars/old-male.png'),
+    (6, 'old-female', '/image/avatars/old-female.png');
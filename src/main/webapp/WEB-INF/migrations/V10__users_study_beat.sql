@@ -0,0 +1,7 @@
+-- 공부 시간 하트비트 중복 확인을 DB 에서 : 어느 인스턴스로 들어온 하트비트든 같은 beat 는 한 번만 인정한다
+-- last_study_beat : 마지막으로 인정한 beat (클라이언트가 보낸 값), last_study_at : 그 하트비트를 받은 서버 시각 (epoch ms)
+-- study_time_millis : study_time(초)에 아직 더하지 않은 1초 미만의 시간
+alter table users
+    add column last_study_beat bigint not null default 0,
+    add column last_study_at bigint not null default 0,
+    add column study_time_millis int not null default 0;
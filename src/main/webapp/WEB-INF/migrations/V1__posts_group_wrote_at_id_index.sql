@@ -0,0 +1,2 @@
+-- 게시글 피드 키셋 페이지네이션 : where group_id = ? and (wrote_at, id) < (?, ?) order by wrote_at desc, id desc
+create index idx_posts_group_wrote_at_id on posts (group_id, wrote_at, id);
@@ -0,0 +1,10 @@
+-- 게시글별 감정 집계 : 조회 시 group by 대신 미리 계산된 값을 읽는다
+create table post_reaction_counts (
+    post_id        int         not null,
+    feeling        varchar(20) not null,
+    reaction_count int         not null default 0,
+    primary key (post_id, feeling)
+);
+
+insert into post_reaction_counts(post_id, feeling, reaction_count)
+select post_id, feeling, count(*) from post_reactions group by post_id, feeling;
@@ -0,0 +1,20 @@
+-- 사용자별 로그인 기록 조회 : where user_id = ? order by login_at desc
+create index idx_login_logs_user_login_at on login_logs (user_id, login_at);
+
+-- 월 단위 파티션 : 파티션 키(login_at)가 모든 유니크 키에 포함되어야 하므로 기본키를 (id, login_at) 로 바꾼다
+-- 월별 파티션은 LoginLogPartitionMaintainer 가 pmax 를 나누어 미리 만들고, 보관 기간이 지난 파티션을 삭제한다
+alter table login_logs drop primary key, add primary key (id, login_at);
+alter table login_logs partition by range columns (login_at) (
+    partition pmax values less than (maxvalue)
+);
+
+-- 사용자별 일일 로그인 집계
+create table login_daily_stats (
+    user_id     varchar(50) not null,
+    login_date  date        not null,
+    login_count int         not null default 0,
+    primary key (user_id, login_date)
+);
+
+insert into login_daily_stats(user_id, login_date, login_count)
+select user_id, date(login_at), count(*) from login_logs group by user_id, date(login_at);
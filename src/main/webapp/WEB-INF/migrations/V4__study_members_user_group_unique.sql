@@ -0,0 +1,7 @@
+-- 같은 사용자의 같은 그룹 중복 가입 행 정리 (가장 먼저 만들어진 행만 남김)
+delete newer from study_members newer
+    join study_members older
+        on newer.user_id = older.user_id and newer.group_id = older.group_id and newer.id > older.id;
+
+-- 가입 상태 조회 : where user_id = ? and group_id = ? / 중복 가입 방지 (insert ignore)
+alter table study_members add unique key uk_study_members_user_group (user_id, group_id);
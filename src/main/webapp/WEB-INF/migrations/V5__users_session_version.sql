@@ -0,0 +1,2 @@
+-- 로그인 세션 무효화용 버전 : 값을 올리면 이전에 발급한 세션이 모두 무효가 된다 (비밀번호 변경 등)
+alter table users add column session_version int not null default 0;
@@ -0,0 +1,12 @@
+-- 같은 사용자가 같은 게시글에 남긴 중복 감정 정리 (가장 최근 행만 남김)
+delete older from post_reactions older
+    join post_reactions newer
+        on older.post_id = newer.post_id and older.writer_id = newer.writer_id and older.id < newer.id;
+
+-- 감정 누르기 : where post_id = ? and writer_id = ? for update / insert ... on duplicate key update
+alter table post_reactions add unique key uk_post_reactions_post_writer (post_id, writer_id);
+
+-- 중복 행을 지웠으므로 감정 집계를 다시 계산
+delete from post_reaction_counts;
+insert into post_reaction_counts(post_id, feeling, reaction_count)
+select post_id, feeling, count(*) from post_reactions group by post_id, feeling;
@@ -0,0 +1,17 @@
+-- 그룹 해산 작업 : 요청 시 study_groups 행만 지우고 이 표에 작업을 남긴다
+-- 게시글 / 감정 / 멤버는 GroupDissolutionWorker 가 조금씩 지우며 진행 상황을 기록한다 (재시작 후 이어서 진행)
+create table group_dissolutions (
+    group_id          varchar(20) not null primary key,
+    creator_id        varchar(50),
+    stage             varchar(10) not null,          -- POSTS → MEMBERS → DONE
+    deleted_posts     int not null default 0,
+    deleted_reactions int not null default 0,
+    deleted_members   int not null default 0,
+    requested_at      datetime not null,
+    updated_at        datetime not null,
+    finished_at       datetime,
+    key idx_group_dissolutions_finished_at (finished_at, requested_at)
+);
+
+-- 멤버 삭제 / 승인 대기 목록 : where group_id = ? (기존 유니크 키는 user_id 가 앞이라 쓰이지 않음)
+create index idx_study_members_group_id on study_members (group_id);
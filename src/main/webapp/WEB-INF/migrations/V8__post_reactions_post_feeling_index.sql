@@ -0,0 +1,4 @@
+-- 감정 집계 재계산 : select post_id, feeling, count(*) from post_reactions group by post_id, feeling
+-- 인덱스만 순서대로 읽어 정렬 / 임시 테이블 없이 집계한다
+-- (post_id 단독 / (post_id, writer_id) 조회는 uk_post_reactions_post_writer 가 담당)
+create index idx_post_reactions_post_feeling on post_reactions (post_id, feeling);
@@ -0,0 +1,18 @@
+-- 대시보드의 안 읽은 글 수 / 최근 활동 시각 : 그룹별 글 수와 멤버별 "마지막으로 본 글 수" 의 차이
+-- 글을 쓸 때 study_groups 를, 그룹 화면을 볼 때 study_members 를 한 행씩만 갱신한다
+alter table study_groups
+    add column post_count int not null default 0,
+    add column last_post_at datetime;
+
+alter table study_members
+    add column last_seen_post_count int not null default 0,
+    add column last_seen_at datetime;
+
+update study_groups
+set post_count   = (select count(*) from posts where posts.group_id = study_groups.id),
+    last_post_at = (select max(wrote_at) from posts where posts.group_id = study_groups.id);
+
+-- 기존 글은 모두 읽은 것으로 시작
+update study_members
+    join study_groups on study_members.group_id = study_groups.id
+set study_members.last_seen_post_count = study_groups.post_count;
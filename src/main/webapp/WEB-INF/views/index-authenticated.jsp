@@ -1,5 +1,5 @@
 <%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core" %>
-<%@ page contentType="text/html;charset=UTF-8" language="java" %>
+<%@ page contentType="text/html;charset=UTF-8" language="java" session="false" %>
 <html>
 <head>
     <meta name="viewport" content="width=device-width, initial-scale=1.0">
@@ -58,6 +58,15 @@ display: flex; align-items: center">
                             </h4>
                             <span style="display: inline-block; background-color: white;
                                 padding : 3px 10px; border-radius: 8px; font-size: small">${one.groupType}</span>
+                            <c:if test="${one.unreadCount > 0}">
+                                <span style="display: inline-block; margin-top: 6px; background-color: #e84c3d; color: white;
+                                    padding : 2px 8px; border-radius: 8px; font-size: small">새 글 ${one.unreadCount}</span>
+                            </c:if>
+                            <c:if test="${one.lastPostAt != null}">
+                                <span style="margin-top: 6px; color:#bbb; font-size: x-small">
+                                    최근 활동 ${one.lastPostAt.toString().replace('T', '  ')}
+                                </span>
+                            </c:if>
                         </div>
                     </div>
                 </a>
@@ -1,4 +1,4 @@
-<%@ page contentType="text/html;charset=UTF-8" language="java" %>
+<%@ page contentType="text/html;charset=UTF-8" language="java" session="false" %>
 <html>
 <head>
     <meta name="viewport" content="width=device-width, initial-scale=1.0">
@@ -29,6 +29,7 @@
             <li>내가 쓴 글</li>
             <li>가입신청 중인 그룹</li>
             <li><a href="${pageContext.request.contextPath}/auth/logout">로그아웃</a></li>
+            <li><a href="${pageContext.request.contextPath}/auth/logout-all">모든 기기에서 로그아웃</a></li>
         </ul>
 
         <div class="content">
@@ -47,13 +48,14 @@
                 <ul>
                     <li>로그인 회수 <span>${user.loginCount}</span></li>
                     <li>최근 로그인 <span>${latestLog.loginAt.toString().replace('T', '  ')}</span></li>
+                    <li>최근 30일 접속 <span>${dailyStats.size()}</span>일</li>
                 </ul>
             </div>
             <div class="info">
                 <h3>활동 내역</h3>
                 <ul>
                     <li>참여한 그룹 <span>-</span></li>
-                    <li>총 공부시간 <span>${user.studyTime}</span>h</li>
+                    <li>총 공부시간 <span>${studyHours}</span>h</li>
                 </ul>
             </div>
         </div>
@@ -0,0 +1,55 @@
+<%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core" %>
+<%@ page contentType="text/html;charset=UTF-8" language="java" session="false" %>
+<%-- 스터디 그룹 화면의 게시글 영역, 렌더링 결과는 StudyFeedCache 에 (그룹, 버전, 가입 상태)별로 저장된다 --%>
+<%-- 상대 시간("3분 전")은 data-wrote-at 으로 화면에서 다시 계산하므로, 저장된 결과의 시간이 지나도 맞게 보인다 --%>
+<form action="${pageContext.request.contextPath}/study/${group.id}/post">
+    <input type="hidden" name="groupId" value="${group.id}"/>
+    <textarea style="width: 100%; height:100px; resize: none; padding : 4px" name="content"
+              id="content"></textarea>
+    <p style="text-align: right">
+        <button type="submit" style="padding : 4px 12px;">게시</button>
+    </p>
+</form>
+
+<div id="posts">
+<c:forEach items="${postMetas}" var="one">
+    <div style="margin: 6px 0px; background-color: white; padding: 16px;">
+        <div style="display: flex; gap: 10px; align-items: center; ">
+            <img src="${pageContext.request.contextPath}${one.writerAvatar}"
+                 style="width: 48px;"/>
+            <div>
+                <b>${one.writerName}</b>
+                <div style="font-size: small" class="post-time" data-wrote-at="${one.wroteAt}">${one.time}</div>
+            </div>
+        </div>
+        <p style="font-size: small">
+                ${one.id} | ${one.content}
+        </p>
+        <div id="reactions-${one.id}">
+            <c:forEach items="${one.reactions}" var="t">
+                <c:choose>
+                    <c:when test="${t.feeling == 'happy'}"><span>😍</span></c:when>
+                    <c:when test="${t.feeling == 'excited'}"><span>😆</span></c:when>
+                    <c:when test="${t.feeling == 'sad'}"><span>😥</span></c:when>
+                    <c:when test="${t.feeling == 'angry'}"><span>😡</span></c:when>
+                    <c:otherwise><span>😐</span></c:otherwise>
+                </c:choose>
+                <span>${t.count}</span>
+            </c:forEach>
+        </div>
+        <c:if test="${status == 'MEMBER' || status == 'LEADER'}">
+            <div class="reaction-buttons" data-post-id="${one.id}" style="margin-top: 6px">
+                <button data-feeling="happy">😍</button>
+                <button data-feeling="excited">😆</button>
+                <button data-feeling="sad">😥</button>
+                <button data-feeling="angry">😡</button>
+            </div>
+        </c:if>
+    </div>
+</c:forEach>
+</div>
+<c:if test="${nextCursor != null}">
+    <p style="text-align: center">
+        <button id="more" data-cursor="${nextCursor}" style="padding : 4px 12px;">이전 글 더보기</button>
+    </p>
+</c:if>
@@ -1,5 +1,5 @@
 <%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core" %>
-<%@ page contentType="text/html;charset=UTF-8" language="java" %>
+<%@ page contentType="text/html;charset=UTF-8" language="java" session="false" %>
 <html>
 <head>
     <meta name="viewport" content="width=device-width, initial-scale=1">
@@ -48,6 +48,24 @@ background-color: #afafaf; color:white" placeholder="스터디 검색" value="${
                 </div>
             </div>
         </c:forEach>
+
+        <div style="display: flex; gap : 15px; justify-content: center; padding : 20px 0px;">
+            <c:if test="${page > 1}">
+                <c:url var="prevUrl" value="/study/search">
+                    <c:param name="word" value="${param.word}"/>
+                    <c:param name="page" value="${page - 1}"/>
+                </c:url>
+                <a href="${prevUrl}">이전</a>
+            </c:if>
+            <span>${page} / ${lastPage}</span>
+            <c:if test="${page < lastPage}">
+                <c:url var="nextUrl" value="/study/search">
+                    <c:param name="word" value="${param.word}"/>
+                    <c:param name="page" value="${page + 1}"/>
+                </c:url>
+                <a href="${nextUrl}">다음</a>
+            </c:if>
+        </div>
     </div>
 </div>
 </body>
@@ -1,5 +1,5 @@
 <%@ taglib prefix="c" uri="http://java.sun.com/jsp/jstl/core" %>
-<%@ page contentType="text/html;charset=UTF-8" language="java" %>
+<%@ page contentType="text/html;charset=UTF-8" language="java" session="false" %>
 <html>
 <head>
     <meta name="viewport" content="width=device-width, initial-scale=1">
@@ -64,6 +64,12 @@ background-color: #afafaf; color:white" placeholder="스터디 검색" value="${
                                 <button style="width: 100%; padding: 5px; font-size:1em;">스터디 해산하기</button>
                             </a>
                         </p>
+                        <div id="pending" style="font-size: 0.8em">
+                            <b>승인 대기</b>
+                            <div id="pending-list"></div>
+                            <button type="button" data-action="approve">선택 승인</button>
+                            <button type="button" data-action="reject">선택 거절</button>
+                        </div>
                     </c:otherwise>
                 </c:choose>
                 <c:choose>
@@ -82,42 +88,15 @@ background-color: #afafaf; color:white" placeholder="스터디 검색" value="${
 
             <div style="flex:1">
                 <h3 style="border-bottom: 1px solid rgba(0, 0, 0, .3); padding-bottom : 10px">게시글</h3>
-                <form action="${pageContext.request.contextPath}/study/${group.id}/post">
-                    <input type="hidden" name="groupId" value="${group.id}"/>
-                    <textarea style="width: 100%; height:100px; resize: none; padding : 4px" name="content"
-                              id="content"></textarea>
-                    <p style="text-align: right">
-                        <button type="submit" style="padding : 4px 12px;">게시</button>
-                    </p>
-                </form>
-
-                <c:forEach items="${postMetas}" var="one">
-                    <div style="margin: 6px 0px; background-color: white; padding: 16px;">
-                        <div style="display: flex; gap: 10px; align-items: center; ">
-                            <img src="${pageContext.request.contextPath}${one.writerAvatar}"
-                                 style="width: 48px;"/>
-                            <div>
-                                <b>${one.writerName}</b>
-                                <div style="font-size: small">${one.time}</div>
-                            </div>
-                        </div>
-                        <p style="font-size: small">
-                                ${one.id} | ${one.content}
-                        </p>
-                        <div>
-                            <c:forEach items="${one.reactions}" var="t">
-                                <c:choose>
-                                    <c:when test="${t.feeling == 'happy'}"><span>😍</span></c:when>
-                                    <c:when test="${t.feeling == 'excited'}"><span>😆</span></c:when>
-                                    <c:when test="${t.feeling == 'sad'}"><span>😥</span></c:when>
-                                    <c:when test="${t.feeling == 'angry'}"><span>😡</span></c:when>
-                                    <c:otherwise><span>😐</span></c:otherwise>
-                                </c:choose>
-                                <span>${t.count}</span>
-                            </c:forEach>
-                        </div>
-                    </div>
-                </c:forEach>
+                <%-- 캐시된 게시글 영역이 있으면 그대로 출력, 없으면 렌더링해서 캐시에 저장 --%>
+                <c:choose>
+                    <c:when test="${feedHtml != null}">${feedHtml}</c:when>
+                    <c:otherwise>
+                        <c:import url="/WEB-INF/views/study/feed.jsp" var="renderedFeed" charEncoding="UTF-8"/>
+                        <c:set target="${feedSlot}" property="html" value="${renderedFeed}"/>
+                        ${renderedFeed}
+                    </c:otherwise>
+                </c:choose>
             </div>
         </div>
     </div>
@@ -131,10 +110,201 @@ background-color: #afafaf; color:white" placeholder="스터디 검색" value="${
         if (e.key == "Enter" && (!e.shiftKey)) {
             e.preventDefault();
             console.log(e.target.parentNode);
-            e.target.parentNode.submit();
+            e.target.parentNode.requestSubmit();
+        }
+    };
+</script>
+
+<!--게시글 그리기 (이전 글 더보기 / 실시간 이벤트 공용)-->
+<script>
+    const canReact = ${status == 'MEMBER' || status == 'LEADER'};
+    const emojis = {happy: "😍", excited: "😆", sad: "😥", angry: "😡"};
+    const escape = function (text) {
+        const div = document.createElement("div");
+        div.textContent = text;
+        return div.innerHTML;
+    };
+    // 상대 시간은 브라우저에서 계산 (서버의 ETag / 조각 캐시가 시간이 지나도 그대로 쓰일 수 있도록)
+    const timeFormat = new Intl.RelativeTimeFormat("ko", {numeric: "auto"});
+    const relativeTime = function (wroteAt) {
+        const seconds = Math.round((wroteAt - Date.now()) / 1000);
+        if (seconds > -60) {
+            return "방금 전";
+        }
+        const units = [["minute", 60], ["hour", 24], ["day", 7], ["week", 4.345], ["month", 12], ["year", Infinity]];
+        let value = seconds / 60;
+        for (const [unit, size] of units) {
+            if (Math.abs(value) < size) {
+                return timeFormat.format(Math.round(value), unit);
+            }
+            value = value / size;
+        }
+    };
+    const refreshTimes = function () {
+        document.querySelectorAll(".post-time").forEach(one => {
+            one.textContent = relativeTime(Number(one.dataset.wroteAt));
+        });
+    };
+    refreshTimes();
+    setInterval(refreshTimes, 60000);
+    const renderReactions = function (reactions) {
+        let html = "";
+        (reactions || []).forEach(t => {
+            html += "<span>" + (emojis[t.feeling] || "😐") + "</span> <span>" + t.count + "</span> ";
+        });
+        return html;
+    };
+    const renderPost = function (one) {
+        const div = document.createElement("div");
+        div.style = "margin: 6px 0px; background-color: white; padding: 16px;";
+        div.innerHTML =
+            "<div style=\"display: flex; gap: 10px; align-items: center; \">" +
+            "<img src=\"${pageContext.request.contextPath}" + escape(one.writerAvatar) + "\" style=\"width: 48px;\"/>" +
+            "<div><b>" + escape(one.writerName) + "</b><div style=\"font-size: small\" class=\"post-time\" data-wrote-at=\"" + one.wroteAt + "\">" +
+            relativeTime(one.wroteAt) + "</div></div>" +
+            "</div>" +
+            "<p style=\"font-size: small\">" + one.id + " | " + escape(one.content) + "</p>" +
+            "<div id=\"reactions-" + one.id + "\">" + renderReactions(one.reactions) + "</div>";
+        if (canReact) {
+            let buttons = "";
+            Object.keys(emojis).forEach(feeling => {
+                buttons += "<button data-feeling=\"" + feeling + "\">" + emojis[feeling] + "</button> ";
+            });
+            div.innerHTML += "<div class=\"reaction-buttons\" data-post-id=\"" + one.id + "\" style=\"margin-top: 6px\">" + buttons + "</div>";
+        }
+        return div;
+    };
+    // 이미 화면에 있는 글(내가 방금 쓴 글 등)은 다시 추가하지 않는다
+    const prependPost = function (one) {
+        if (!document.querySelector("#reactions-" + one.id)) {
+            document.querySelector("#posts").prepend(renderPost(one));
+        }
+    };
+</script>
+
+<!--감정 남기기 : 다른 감정을 누르면 변경, 응답으로 받은 통계로 해당 글만 갱신-->
+<script>
+    document.querySelector("#posts").addEventListener("click", e => {
+        const button = e.target.closest("button[data-feeling]");
+        if (!button) {
+            return;
         }
+        const postId = button.parentNode.dataset.postId;
+        fetch("${pageContext.request.contextPath}/study/${group.id}/post/" + postId + "/reaction", {
+            method: "POST",
+            headers: {"Accept": "application/json"},
+            body: new URLSearchParams({feeling: button.dataset.feeling})
+        })
+            .then(response => response.json())
+            .then(update => {
+                document.querySelector("#reactions-" + update.postId).innerHTML = renderReactions(update.reactions);
+            });
+    });
+</script>
+
+<!--이전 글 더보기-->
+<script>
+    const more = document.querySelector("#more");
+    if (more) {
+        more.onclick = function () {
+            fetch("${pageContext.request.contextPath}/study/${group.id}/posts?before=" + encodeURIComponent(more.dataset.cursor))
+                .then(response => response.json())
+                .then(page => {
+                    page.posts.forEach(one => {
+                        document.querySelector("#posts").appendChild(renderPost(one));
+                    });
+                    if (page.nextCursor) {
+                        more.dataset.cursor = page.nextCursor;
+                    } else {
+                        more.parentNode.remove();
+                    }
+                });
+        };
+    }
+</script>
+
+<!--실시간 새 글 / 감정 (가입한 멤버만 연결)-->
+<c:if test="${status == 'MEMBER' || status == 'LEADER'}">
+<script>
+    const events = new EventSource("${pageContext.request.contextPath}/study/${group.id}/events");
+    events.addEventListener("post", e => prependPost(JSON.parse(e.data)));
+    events.addEventListener("reactions", e => {
+        const update = JSON.parse(e.data);
+        const target = document.querySelector("#reactions-" + update.postId);
+        if (target) {
+            target.innerHTML = renderReactions(update.reactions);
+        }
+    });
+
+    // 화면을 보고 있는 동안 30초마다 공부 시간 하트비트 (보낸 시각을 beat 로 사용해 재전송은 중복 처리됨)
+    setInterval(function () {
+        if (document.visibilityState !== "visible") {
+            return;
+        }
+        fetch("${pageContext.request.contextPath}/my/study-heartbeat", {
+            method: "POST",
+            headers: {"Accept": "application/json"},
+            body: new URLSearchParams({beat: Date.now()})
+        }).catch(() => {});
+    }, 30000);
+
+    // 연결되어 있으면 글 작성 후 화면을 다시 읽지 않는다 (연결이 없으면 기존처럼 페이지 이동)
+    const postForm = document.querySelector("#content").form;
+    postForm.onsubmit = function (e) {
+        if (events.readyState !== EventSource.OPEN) {
+            return;
+        }
+        e.preventDefault();
+        fetch(postForm.action, {
+            method: "POST",
+            headers: {"Accept": "application/json"},
+            body: new URLSearchParams(new FormData(postForm))
+        })
+            .then(response => {
+                if (!response.ok) {
+                    throw new Error(response.status);
+                }
+                return response.json();
+            })
+            .then(one => {
+                postForm.reset();
+                prependPost(one);
+            })
+            .catch(() => postForm.submit());
+    };
+</script>
+</c:if>
+
+<!--승인 대기 목록 / 일괄 승인, 거절 (그룹장만)-->
+<c:if test="${status == 'LEADER'}">
+<script>
+    const pendingBase = "${pageContext.request.contextPath}/study/${group.id}/pending";
+    const loadPending = function () {
+        fetch(pendingBase, {headers: {"Accept": "application/json"}})
+            .then(response => response.json())
+            .then(list => {
+                let html = "";
+                list.forEach(one => {
+                    html += "<label style='display:block'><input type='checkbox' value='" + escape(one.userId) + "'> "
+                        + escape(one.userName) + " (" + escape(one.userId) + ")</label>";
+                });
+                document.querySelector("#pending-list").innerHTML = html || "<div>없음</div>";
+            });
     };
+    document.querySelectorAll("#pending button").forEach(button => {
+        button.onclick = function () {
+            const body = new URLSearchParams();
+            document.querySelectorAll("#pending-list input:checked").forEach(t => body.append("targetUserId", t.value));
+            if (!body.has("targetUserId")) {
+                return;
+            }
+            fetch(pendingBase + "/" + button.dataset.action, {method: "POST", headers: {"Accept": "application/json"}, body: body})
+                .then(() => location.reload());
+        };
+    });
+    loadPending();
 </script>
+</c:if>
 
 </body>
 </html>
\ No newline at end of file
@@ -0,0 +1,238 @@
+package org.codenova.studymate.benchmark;
+
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+// H2(MySQL 모드) 메모리 DB 에 운영과 같은 매퍼(WEB-INF/mappers)를 올리고 현실적인 규모의 데이터를 채운다
+// - 그룹 2,000 개 / 사용자 1,000 명 / 사용자당 가입 그룹 5 개
+// - 일반 그룹마다 게시글 20 개, 인기 그룹(HOT_GROUP_ID) 하나에 게시글 5,000 개, 게시글마다 감정 0~4 개
+// 시드가 고정되어 있어 커밋 사이의 결과를 비교할 수 있다
+@State(Scope.Benchmark)
+public class BenchmarkDatabase {
+
+    public static final String HOT_GROUP_ID = "hotgroup0000";
+    public static final int GROUP_COUNT = 2_000;
+    public static final int USER_COUNT = 1_000;
+    public static final int HOT_GROUP_POSTS = 5_000;
+
+    static final String[] TOPICS = {"자바", "스프링", "알고리즘", "토익", "정보처리기사",
+            "파이썬", "리액트", "영어회화", "데이터베이스", "코딩테스트"};
+    static final String[] FEELINGS = {"happy", "excited", "sad", "angry", "normal"};
+
+    public PooledDataSource dataSource;
+    public SqlSessionFactory sqlSessionFactory;
+    public SqlSessionTemplate template;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dataSource = new PooledDataSource("org.h2.Driver",
+                "jdbc:h2:mem:studymate;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+
+        try (Connection connection = dataSource.getConnection()) {
+            createSchema(connection);
+            seed(connection);
+        }
+
+        Configuration configuration = new Configuration(new Environment("benchmark", new JdbcTransactionFactory(), dataSource));
+        configuration.setMapUnderscoreToCamelCase(true);
+        configuration.getTypeAliasRegistry().registerAliases("org.codenova.studymate.model");
+
+        Path mappers = Path.of(System.getProperty("studymate.mappers", "src/main/webapp/WEB-INF/mappers"));
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(mappers, "*-mapper.xml")) {
+            for (Path file : files) {
+                try (InputStream in = Files.newInputStream(file)) {
+                    new XMLMapperBuilder(in, configuration, file.toString(), configuration.getSqlFragments()).parse();
+                }
+            }
+        }
+
+        sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+        template = new SqlSessionTemplate(sqlSessionFactory);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+        }
+        dataSource.forceCloseAll();
+    }
+
+    private void createSchema(Connection connection) throws IOException, SQLException {
+        String script;
+        try (InputStream in = BenchmarkDatabase.class.getResourceAsStream("/bench-schema.sql")) {
+            script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        try (Statement statement = connection.createStatement()) {
+            StringBuilder withoutComments = new StringBuilder();
+            for (String line : script.split("\n")) {
+                if (!line.trim().startsWith("--")) {
+                    withoutComments.append(line).append('\n');
+                }
+            }
+            for (String sql : withoutComments.toString().split(";")) {
+                if (!sql.isBlank()) {
+                    statement.execute(sql);
+                }
+            }
+        }
+    }
+
+    private void seed(Connection connection) throws SQLException {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        connection.setAutoCommit(false);
+
+        try (PreparedStatement ps = connection.prepareStatement("insert into avatars values (?, ?, ?)")) {
+            String[] names = {"kid-male", "kid-female", "adult-male", "adult-female", "old-male", "old-female"};
+            for (int i = 0; i < names.length; i++) {
+                ps.setInt(1, i + 1);
+                ps.setString(2, names[i]);
+                ps.setString(3, "/image/avatars/" + names[i] + ".png");
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+
+        try (PreparedStatement ps = connection.prepareStatement("insert into users (id, password, name, avatar_id, login_count, study_time) values (?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < USER_COUNT; i++) {
+                ps.setString(1, userId(i));
+                ps.setString(2, "password");
+                ps.setString(3, "사용자" + i);
+                ps.setInt(4, 1 + random.nextInt(6));
+                ps.setInt(5, random.nextInt(500));
+                ps.setInt(6, random.nextInt(10_000));
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+
+        try (PreparedStatement ps = connection.prepareStatement("insert into study_groups (id, name, type, goal, creator_id, created_at, member_count) values (?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < GROUP_COUNT; i++) {
+                String topic = TOPICS[random.nextInt(TOPICS.length)];
+                ps.setString(1, groupId(i));
+                ps.setString(2, topic + " 스터디 " + i);
+                ps.setString(3, random.nextBoolean() ? "공개" : "비공개");
+                ps.setString(4, "매주 " + TOPICS[random.nextInt(TOPICS.length)] + " 문제를 함께 풀어요");
+                ps.setString(5, userId(random.nextInt(USER_COUNT)));
+                ps.setTimestamp(6, Timestamp.valueOf(now.minusDays(random.nextInt(365))));
+                ps.setInt(7, 0);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+
+        try (PreparedStatement ps = connection.prepareStatement(
+                "insert ignore into study_members (user_id, group_id, role, applied_at, joined_at) values (?, ?, '멤버', ?, ?)")) {
+            for (int i = 0; i < USER_COUNT; i++) {
+                for (int j = 0; j < 5; j++) {
+                    ps.setString(1, userId(i));
+                    ps.setString(2, j == 0 ? HOT_GROUP_ID : groupId(random.nextInt(GROUP_COUNT)));
+                    ps.setTimestamp(3, Timestamp.valueOf(now.minusDays(30)));
+                    ps.setTimestamp(4, random.nextInt(10) == 0 ? null : Timestamp.valueOf(now.minusDays(29)));
+                    ps.addBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+
+        try (PreparedStatement ps = connection.prepareStatement(
+                "insert into posts (group_id, writer_id, content, wrote_at) values (?, ?, ?, ?)")) {
+            for (int i = 0; i < GROUP_COUNT; i++) {
+                int count = groupId(i).equals(HOT_GROUP_ID) ? HOT_GROUP_POSTS : 20;
+                for (int j = 0; j < count; j++) {
+                    ps.setString(1, groupId(i));
+                    ps.setString(2, userId(random.nextInt(USER_COUNT)));
+                    ps.setString(3, "오늘 공부한 내용 정리 " + j);
+                    ps.setTimestamp(4, Timestamp.valueOf(now.minusMinutes((long) j * 37 + random.nextInt(30))));
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+        }
+
+        try (PreparedStatement select = connection.prepareStatement("select id, group_id from posts");
+             PreparedStatement ps = connection.prepareStatement(
+                     "insert ignore into post_reactions (group_id, post_id, feeling, writer_id) values (?, ?, ?, ?)");
+             var rs = select.executeQuery()) {
+            int pending = 0;
+            while (rs.next()) {
+                int reactions = random.nextInt(5);
+                for (int k = 0; k < reactions; k++) {
+                    ps.setString(1, rs.getString(2));
+                    ps.setInt(2, rs.getInt(1));
+                    ps.setString(3, FEELINGS[random.nextInt(FEELINGS.length)]);
+                    ps.setString(4, userId(random.nextInt(USER_COUNT)));
+                    ps.addBatch();
+                    pending++;
+                }
+                if (pending > 5_000) {
+                    ps.executeBatch();
+                    pending = 0;
+                }
+            }
+            ps.executeBatch();
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    insert into post_reaction_counts (post_id, feeling, reaction_count)
+                    select post_id, feeling, count(*) from post_reactions group by post_id, feeling""");
+            statement.execute("""
+                    update study_groups set member_count = (
+                        select count(*) from study_members
+                        where study_members.group_id = study_groups.id and joined_at is not null)""");
+            statement.execute("""
+                    update study_groups set
+                        post_count = (select count(*) from posts where posts.group_id = study_groups.id),
+                        last_post_at = (select max(wrote_at) from posts where posts.group_id = study_groups.id)""");
+        }
+
+        try (PreparedStatement ps = connection.prepareStatement("insert into login_logs (user_id, login_at) values (?, ?)")) {
+            for (int i = 0; i < USER_COUNT; i++) {
+                for (int j = 0; j < 50; j++) {
+                    ps.setString(1, userId(i));
+                    ps.setTimestamp(2, Timestamp.valueOf(now.minusHours((long) j * 13)));
+                    ps.addBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    static String userId(int i) {
+        return "user" + i;
+    }
+
+    static String groupId(int i) {
+        return i == 0 ? HOT_GROUP_ID : String.format("group%07d", i);
+    }
+}
@@ -0,0 +1,198 @@
+package org.codenova.studymate.benchmark;
+
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.reflection.ParamNameResolver;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 매퍼(WEB-INF/mappers)의 모든 select / update / delete 를 BenchmarkDatabase 위에서 EXPLAIN 하고
+// 전체 테이블 스캔(H2 실행 계획의 tableScan)이 있으면 실패한다
+// - 파라미터는 이름 / 타입에 맞는 예시 값으로 채우고, 동적 SQL 의 조건은 모두 켜진 쪽으로 만든다
+// - 설계상 전체를 읽는 구문은 ALLOWED_SCANS 에 이유와 함께 적는다
+// - H2 가 해석하지 못하는 MySQL 전용 구문(다중 테이블 update, 파티션 DDL 등)은 ALLOWED_SKIPS 에 이유와 함께 적는다
+//   목록에 없는 구문을 EXPLAIN 하지 못하면 실패한다 (검사를 건너뛴 구문이 모르게 늘지 않도록)
+// mvn test 에서 실행되므로 전체 스캔으로 바뀐 구문이 있으면 빌드가 멈춘다
+class MapperPlanCheckTest {
+
+    static final Map<String, String> ALLOWED_SCANS = Map.of(
+            "avatar.findAll", "아바타 6개, 기동 시 AvatarCatalog 적재",
+            "studyGroup.findAll", "기동 시 / 5분마다 검색 색인(StudyGroupSearchIndex) 적재",
+            "studyGroup.findByNameLikeOrGoalLike", "앞뒤 % like, 검색은 StudyGroupSearchIndex 가 대신함",
+            "studyGroup.findMemberCountDrifts", "매시 멤버 수 보정");
+
+    static final Map<String, String> ALLOWED_SKIPS = Map.of(
+            "loginLog.addPartition", "파티션 DDL, 매일 한 번 (LoginLogPartitionMaintainer)",
+            "loginLog.dropPartition", "파티션 DDL, 매일 한 번 (LoginLogPartitionMaintainer)",
+            "loginLog.findPartitionNames", "information_schema.partitions 조회, 매일 한 번",
+            "studyMember.updateLastSeenByUserIdAndGroupId", "MySQL 다중 테이블 update, (user_id, group_id) 유니크 키와 study_groups 기본 키로만 찾음");
+
+    private static BenchmarkDatabase database;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        database = new BenchmarkDatabase();
+        database.setUp();
+    }
+
+    @AfterAll
+    static void tearDown() throws SQLException {
+        database.tearDown();
+    }
+
+    @Test
+    void everyStatementUsesAnIndexOrIsAllowed() throws SQLException {
+        List<String> failures = check();
+        assertTrue(failures.isEmpty(),
+                failures.size() + " statements fall back to a full scan or cannot be explained : " + failures);
+    }
+
+    private static List<String> check() throws SQLException {
+        Configuration configuration = database.sqlSessionFactory.getConfiguration();
+        Map<String, MappedStatement> statements = new TreeMap<>();
+        for (Object one : configuration.getMappedStatements()) {
+            // getMappedStatements() 는 같은 구문을 짧은 이름으로도 한 번 더 담고 있다
+            if (one instanceof MappedStatement statement) {
+                statements.put(statement.getId(), statement);
+            }
+        }
+
+        List<String> failures = new ArrayList<>();
+        try (Connection connection = database.dataSource.getConnection()) {
+            for (MappedStatement statement : statements.values()) {
+                SqlCommandType type = statement.getSqlCommandType();
+                if (type != SqlCommandType.SELECT && type != SqlCommandType.UPDATE && type != SqlCommandType.DELETE) {
+                    continue;
+                }
+
+                String plan;
+                try {
+                    plan = explain(connection, configuration, statement);
+                } catch (SQLException | RuntimeException e) {
+                    if (ALLOWED_SKIPS.containsKey(statement.getId())) {
+                        System.out.printf("SKIP  %-55s (허용 : %s)%n", statement.getId(), ALLOWED_SKIPS.get(statement.getId()));
+                    } else {
+                        System.out.printf("FAIL  %-55s cannot explain : %s%n", statement.getId(), firstLine(e.getMessage()));
+                        failures.add(statement.getId());
+                    }
+                    continue;
+                }
+
+                if (!plan.contains(".tableScan")) {
+                    System.out.printf("OK    %s%n", statement.getId());
+                } else if (ALLOWED_SCANS.containsKey(statement.getId())) {
+                    System.out.printf("SCAN  %-55s (허용 : %s)%n", statement.getId(), ALLOWED_SCANS.get(statement.getId()));
+                } else {
+                    System.out.printf("FAIL  %-55s full scan%n%s%n", statement.getId(), plan);
+                    failures.add(statement.getId());
+                }
+            }
+        }
+
+        System.out.println(statements.size() + " statements checked");
+        return failures;
+    }
+
+    private static String explain(Connection connection, Configuration configuration, MappedStatement statement)
+            throws SQLException {
+        // SqlSession 을 거칠 때처럼 List 파라미터는 {list, collection} 맵으로 감싼다
+        Object parameter = ParamNameResolver.wrapToMapIfCollection(
+                sampleParameter(configuration, statement.getParameterMap().getType()), null);
+        BoundSql boundSql = statement.getBoundSql(parameter);
+        try (PreparedStatement ps = connection.prepareStatement("explain " + boundSql.getSql())) {
+            configuration.newParameterHandler(statement, parameter, boundSql).setParameters(ps);
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    plan.append(rs.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    private static Object sampleParameter(Configuration configuration, Class<?> type) {
+        if (type == null || type == Object.class || Map.class.isAssignableFrom(type)) {
+            return new SampleParameters();
+        }
+        if (type == String.class) {
+            return BenchmarkDatabase.HOT_GROUP_ID;
+        }
+        if (type == Integer.class || type == int.class) {
+            return 1;
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return List.of(BenchmarkDatabase.HOT_GROUP_ID, BenchmarkDatabase.groupId(1));
+        }
+
+        // 엔티티 : 쓸 수 있는 속성을 모두 예시 값으로 채운다
+        Object entity = configuration.getObjectFactory().create(type);
+        MetaObject meta = configuration.newMetaObject(entity);
+        for (String name : meta.getSetterNames()) {
+            Class<?> setterType = meta.getSetterType(name);
+            Object value = sample(name);
+            if (setterType == int.class || setterType == Integer.class) {
+                value = 1;
+            } else if (setterType == LocalDateTime.class) {
+                value = LocalDateTime.now();
+            } else if (setterType != String.class) {
+                continue;
+            }
+            meta.setValue(name, value);
+        }
+        return entity;
+    }
+
+    // 이름으로 고른 예시 값 : 숫자 컬럼과 비교되는 문자열은 H2 가 숫자로 바꿔 비교하므로 인덱스 사용에 영향이 없다
+    static Object sample(String name) {
+        return switch (name) {
+            case "size", "limit", "amount", "delta", "posts", "reactions", "members" -> 10;
+            case "pending" -> Boolean.TRUE;
+            case "before", "cursorWroteAt" -> LocalDateTime.now();
+            case "from", "loginDate" -> LocalDate.now().minusDays(30);
+            case "userId", "writerId", "creatorId" -> BenchmarkDatabase.userId(1);
+            case "groupId" -> BenchmarkDatabase.HOT_GROUP_ID;
+            default -> "1";
+        };
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) {
+            return "";
+        }
+        int end = message.indexOf('\n');
+        return end < 0 ? message : message.substring(0, end);
+    }
+
+    // 어떤 키를 물어도 예시 값을 돌려주는 파라미터 맵 (동적 SQL 의 != null 조건이 모두 참이 된다)
+    static class SampleParameters extends HashMap<String, Object> {
+        @Override
+        public Object get(Object key) {
+            return super.containsKey(key) ? super.get(key) : sample(String.valueOf(key));
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package org.codenova.studymate.component;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LeaderboardTest {
+
+    @Test
+    void rankIsByScoreDescending() {
+        Leaderboard board = new Leaderboard();
+        board.put("a", 10);
+        board.put("b", 30);
+        board.put("c", 20);
+
+        assertEquals(new Leaderboard.Entry(1, "b", 30), board.rank("b"));
+        assertEquals(new Leaderboard.Entry(2, "c", 20), board.rank("c"));
+        assertEquals(new Leaderboard.Entry(3, "a", 10), board.rank("a"));
+        assertNull(board.rank("missing"));
+    }
+
+    @Test
+    void equalScoresAreOrderedById() {
+        Leaderboard board = new Leaderboard();
+        board.put("c", 10);
+        board.put("a", 10);
+        board.put("b", 10);
+
+        assertEquals(List.of(
+                new Leaderboard.Entry(1, "a", 10),
+                new Leaderboard.Entry(2, "b", 10),
+                new Leaderboard.Entry(3, "c", 10)), board.top(10));
+        assertEquals(2, board.rank("b").rank());
+    }
+
+    @Test
+    void topStopsAtNOrAtTheLastEntry() {
+        Leaderboard board = new Leaderboard();
+        for (int i = 0; i < 5; i++) {
+            board.put("user" + i, i);
+        }
+
+        assertEquals(List.of("user4", "user3"), board.top(2).stream().map(Leaderboard.Entry::userId).toList());
+        assertEquals(5, board.top(100).size());
+        assertTrue(board.top(0).isEmpty());
+        assertTrue(new Leaderboard().top(10).isEmpty());
+    }
+
+    @Test
+    void updateMovesTheEntryAmongEqualScores() {
+        Leaderboard board = new Leaderboard();
+        board.put("a", 10);
+        board.put("b", 20);
+        board.put("c", 20);
+
+        // a 가 b, c 와 같은 점수가 되면 ID 순으로 맨 앞
+        assertEquals(20, board.add("a", 10));
+        assertEquals(List.of("a", "b", "c"), board.top(3).stream().map(Leaderboard.Entry::userId).toList());
+
+        // 같은 점수로 다시 넣어도 한 번만 남는다
+        board.put("b", 20);
+        assertEquals(3, board.size());
+        assertEquals(3, board.top(10).size());
+
+        board.add("c", -5);
+        assertEquals(new Leaderboard.Entry(3, "c", 15), board.rank("c"));
+        assertEquals(new Leaderboard.Entry(2, "b", 20), board.rank("b"));
+    }
+
+    @Test
+    void addOfZeroInsertsOnlyMissingUsers() {
+        Leaderboard board = new Leaderboard();
+        board.put("a", 7);
+
+        assertEquals(7, board.add("a", 0));
+        assertEquals(0, board.add("b", 0));
+        assertEquals(new Leaderboard.Entry(2, "b", 0), board.rank("b"));
+        assertEquals(2, board.size());
+    }
+
+    @Test
+    void removeDropsTheEntryAndShiftsRanks() {
+        Leaderboard board = new Leaderboard();
+        board.put("a", 3);
+        board.put("b", 2);
+        board.put("c", 1);
+
+        board.remove("a");
+        board.remove("missing");
+
+        assertNull(board.rank("a"));
+        assertEquals(1, board.rank("b").rank());
+        assertEquals(2, board.size());
+    }
+
+    // 점수 범위를 좁혀 같은 점수를 많이 만들고, 매번 정렬한 목록과 비교한다
+    @Test
+    void matchesASortedListUnderRandomUpdates() {
+        Leaderboard board = new Leaderboard();
+        Map<String, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int step = 0; step < 5_000; step++) {
+            String id = "user" + random.nextInt(200);
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    board.remove(id);
+                    expected.remove(id);
+                }
+                case 1 -> {
+                    long score = random.nextInt(20);
+                    board.put(id, score);
+                    expected.put(id, score);
+                }
+                default -> {
+                    long delta = random.nextInt(7) - 3;
+                    expected.merge(id, delta, Long::sum);
+                    assertEquals(expected.get(id), board.add(id, delta));
+                }
+            }
+
+            if (step % 250 == 0) {
+                assertSameOrder(expected, board);
+            }
+        }
+        assertSameOrder(expected, board);
+    }
+
+    private static void assertSameOrder(Map<String, Long> expected, Leaderboard board) {
+        List<Map.Entry<String, Long>> sorted = new ArrayList<>(expected.entrySet());
+        sorted.sort(Comparator.<Map.Entry<String, Long>>comparingLong(Map.Entry::getValue).reversed()
+                .thenComparing(Map.Entry::getKey));
+
+        List<Leaderboard.Entry> top = board.top(Integer.MAX_VALUE);
+        assertEquals(sorted.size(), top.size());
+        assertEquals(sorted.size(), board.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            Leaderboard.Entry entry = new Leaderboard.Entry(i + 1, sorted.get(i).getKey(), sorted.get(i).getValue());
+            assertEquals(entry, top.get(i));
+            assertEquals(entry, board.rank(entry.userId()));
+        }
+    }
+}
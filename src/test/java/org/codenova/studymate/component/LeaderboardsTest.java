@@ -0,0 +1,172 @@
+package org.codenova.studymate.component;
+
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.defaults.DefaultSqlSessionFactory;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.codenova.studymate.component.Leaderboards.Metric;
+import org.codenova.studymate.model.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LeaderboardsTest {
+
+    private FakeTemplate template;
+    private Leaderboards leaderboards;
+
+    @BeforeEach
+    void setUp() {
+        template = new FakeTemplate();
+        template.user("alice", 100, 3);
+        template.user("bob", 50, 7);
+        template.user("carol", 50, 1);
+        template.members.put("group1", List.of("alice", "bob"));
+
+        leaderboards = new Leaderboards(template, 10);
+        leaderboards.afterPropertiesSet();
+    }
+
+    @Test
+    void loadsEveryUserFromTheDatabase() {
+        assertEquals(List.of(
+                new Leaderboard.Entry(1, "alice", 100),
+                new Leaderboard.Entry(2, "bob", 50),
+                new Leaderboard.Entry(3, "carol", 50)), leaderboards.top(Metric.STUDY_TIME, 10));
+        assertEquals(new Leaderboard.Entry(1, "bob", 7), leaderboards.rank(Metric.LOGIN_COUNT, "bob"));
+    }
+
+    @Test
+    void addUserPutsANewUserWithZeroScore() {
+        assertNull(leaderboards.rank(Metric.STUDY_TIME, "dave"));
+
+        leaderboards.addUser("dave");
+        leaderboards.addUser("alice");
+
+        assertEquals(new Leaderboard.Entry(4, "dave", 0), leaderboards.rank(Metric.STUDY_TIME, "dave"));
+        assertEquals(new Leaderboard.Entry(4, "dave", 0), leaderboards.rank(Metric.LOGIN_COUNT, "dave"));
+        assertEquals(new Leaderboard.Entry(1, "alice", 100), leaderboards.rank(Metric.STUDY_TIME, "alice"));
+    }
+
+    @Test
+    void addUserInsideATransactionWaitsForTheCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            leaderboards.addUser("dave");
+            assertNull(leaderboards.rank(Metric.STUDY_TIME, "dave"));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(0, leaderboards.rank(Metric.STUDY_TIME, "dave").score());
+    }
+
+    @Test
+    void groupBoardCopiesScoresAndFollowsUpdates() {
+        assertEquals(List.of(
+                new Leaderboard.Entry(1, "alice", 100),
+                new Leaderboard.Entry(2, "bob", 50)), leaderboards.groupTop("group1", Metric.STUDY_TIME, 10));
+
+        leaderboards.add(Metric.STUDY_TIME, "bob", 60);
+        leaderboards.add(Metric.STUDY_TIME, "carol", 500);   // 멤버가 아니므로 그룹 순위표에는 없다
+
+        assertEquals(new Leaderboard.Entry(1, "bob", 110), leaderboards.groupRank("group1", Metric.STUDY_TIME, "bob"));
+        assertNull(leaderboards.groupRank("group1", Metric.STUDY_TIME, "carol"));
+        assertEquals(2, leaderboards.groupTop("group1", Metric.STUDY_TIME, 10).size());
+        assertEquals(1, template.memberQueries);
+    }
+
+    @Test
+    void equalScoresInAGroupBoardAreOrderedById() {
+        leaderboards.groupTop("group1", Metric.STUDY_TIME, 10);
+
+        leaderboards.add(Metric.STUDY_TIME, "bob", 50);
+
+        assertEquals(List.of(
+                new Leaderboard.Entry(1, "alice", 100),
+                new Leaderboard.Entry(2, "bob", 100)), leaderboards.groupTop("group1", Metric.STUDY_TIME, 10));
+        assertEquals(List.of(
+                new Leaderboard.Entry(1, "alice", 100),
+                new Leaderboard.Entry(2, "bob", 100),
+                new Leaderboard.Entry(3, "carol", 50)), leaderboards.top(Metric.STUDY_TIME, 10));
+    }
+
+    @Test
+    void evictGroupRebuildsWithTheNewMembers() {
+        leaderboards.groupTop("group1", Metric.STUDY_TIME, 10);
+
+        template.members.put("group1", List.of("alice", "bob", "carol"));
+        leaderboards.evictGroup("group1");
+        leaderboards.add(Metric.LOGIN_COUNT, "carol", 10);
+
+        assertEquals(new Leaderboard.Entry(1, "carol", 11), leaderboards.groupRank("group1", Metric.LOGIN_COUNT, "carol"));
+        assertEquals(2, template.memberQueries);
+
+        leaderboards.add(Metric.LOGIN_COUNT, "alice", 20);
+        assertEquals(new Leaderboard.Entry(1, "alice", 23), leaderboards.groupRank("group1", Metric.LOGIN_COUNT, "alice"));
+    }
+
+    @Test
+    void reloadOverwritesScoresAndDropsGroupBoards() {
+        leaderboards.add(Metric.STUDY_TIME, "carol", 500);
+        leaderboards.groupTop("group1", Metric.STUDY_TIME, 10);
+        assertEquals(1, leaderboards.groupBoardCount());
+
+        template.user("bob", 200, 7);   // 다른 인스턴스가 반영한 증가
+        leaderboards.reload();
+
+        assertEquals(0, leaderboards.groupBoardCount());
+        assertEquals(new Leaderboard.Entry(1, "bob", 200), leaderboards.rank(Metric.STUDY_TIME, "bob"));
+        assertEquals(new Leaderboard.Entry(3, "carol", 50), leaderboards.rank(Metric.STUDY_TIME, "carol"));
+        assertEquals(new Leaderboard.Entry(1, "bob", 200), leaderboards.groupRank("group1", Metric.STUDY_TIME, "bob"));
+    }
+
+    // 순위표가 쓰는 두 구문만 메모리의 값으로 돌려준다 (DB 에는 연결하지 않는다)
+    private static class FakeTemplate extends SqlSessionTemplate {
+        final TreeMap<String, User> users = new TreeMap<>();
+        final Map<String, List<String>> members = new HashMap<>();
+        int memberQueries;
+
+        FakeTemplate() {
+            super(new DefaultSqlSessionFactory(new Configuration(
+                    new Environment("test", new JdbcTransactionFactory(), new PooledDataSource()))));
+        }
+
+        void user(String id, int studyTime, int loginCount) {
+            User user = new User();
+            user.setId(id);
+            user.setStudyTime(studyTime);
+            user.setLoginCount(loginCount);
+            users.put(id, user);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <E> List<E> selectList(String statement, Object parameter) {
+            switch (statement) {
+                case "user.findScorePage" -> {
+                    Map<String, Object> page = (Map<String, Object>) parameter;
+                    return (List<E>) users.tailMap((String) page.get("after"), false)
+                            .values().stream().limit((Integer) page.get("size")).toList();
+                }
+                case "studyMember.findJoinedUserIdsByGroupId" -> {
+                    memberQueries++;
+                    return (List<E>) members.getOrDefault((String) parameter, List.of());
+                }
+                default -> throw new IllegalArgumentException(statement);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+-- 벤치마크용 스키마 (H2, MySQL 모드) : 매퍼가 사용하는 컬럼과 운영 DB 의 인덱스만 옮겨 둔 것
+-- 인덱스는 WEB-INF/migrations 와 맞춰 둔다 (MapperPlanCheckTest 가 이 스키마로 실행 계획을 검사)
+create table avatars (
+    id        int primary key,
+    name      varchar(50),
+    image_url varchar(200)
+);
+
+create table users (
+    id          varchar(50) primary key,
+    password    varchar(100),
+    name        varchar(50),
+    avatar_id   int,
+    login_count int,
+    study_time  int,
+    session_version int default 0,
+    last_study_beat bigint not null default 0,
+    last_study_at bigint not null default 0,
+    study_time_millis int not null default 0
+);
+
+create table study_groups (
+    id           varchar(20) primary key,
+    name         varchar(100),
+    type         varchar(10),
+    goal         varchar(500),
+    creator_id   varchar(50),
+    created_at   datetime,
+    member_count int,
+    post_count   int default 0,
+    last_post_at datetime
+);
+
+create table study_members (
+    id         int auto_increment primary key,
+    user_id    varchar(50),
+    group_id   varchar(20),
+    role       varchar(10),
+    applied_at datetime,
+    joined_at  datetime,
+    last_seen_post_count int default 0,
+    last_seen_at         datetime,
+    unique key uk_study_members_user_group (user_id, group_id)
+);
+create index idx_study_members_group_id on study_members (group_id);
+
+create table posts (
+    id        int auto_increment primary key,
+    group_id  varchar(20),
+    writer_id varchar(50),
+    content   varchar(1000),
+    wrote_at  datetime
+);
+create index idx_posts_group_wrote_at_id on posts (group_id, wrote_at, id);
+
+create table post_reactions (
+    id        int auto_increment primary key,
+    group_id  varchar(20),
+    post_id   int,
+    feeling   varchar(20),
+    writer_id varchar(50)
+);
+create index idx_post_reactions_post_feeling on post_reactions (post_id, feeling);
+create unique index uk_post_reactions_post_writer on post_reactions (post_id, writer_id);
+
+create table post_reaction_counts (
+    post_id        int         not null,
+    feeling        varchar(20) not null,
+    reaction_count int         not null default 0,
+    primary key (post_id, feeling)
+);
+
+create table login_logs (
+    id       int auto_increment primary key,
+    user_id  varchar(50),
+    login_at datetime
+);
+create index idx_login_logs_user_login_at on login_logs (user_id, login_at);
+
+create table login_daily_stats (
+    user_id     varchar(50) not null,
+    login_date  date        not null,
+    login_count int         not null default 0,
+    primary key (user_id, login_date)
+);
+
+create table group_dissolutions (
+    group_id          varchar(20) not null primary key,
+    creator_id        varchar(50),
+    stage             varchar(10) not null,
+    deleted_posts     int not null default 0,
+    deleted_reactions int not null default 0,
+    deleted_members   int not null default 0,
+    requested_at      datetime not null,
+    updated_at        datetime not null,
+    finished_at       datetime
+);
+create index idx_group_dissolutions_finished_at on group_dissolutions (finished_at, requested_at);